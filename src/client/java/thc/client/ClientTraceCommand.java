@@ -0,0 +1,36 @@
+package thc.client;
+
+import net.fabricmc.fabric.api.client.command.v2.ClientCommandManager;
+import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
+import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.minecraft.network.chat.Component;
+import thc.trace.TraceChannel;
+import thc.trace.TraceCommand;
+
+/**
+ * Client-side {@code /thcclient trace} command, the counterpart of the server's
+ * {@code /thc trace} for the client's own trace buffer (e.g. {@link TraceChannel#DOWNED_CLIENT}
+ * on a dedicated server connection, where the server command cannot reach it).
+ * The subcommands are the same; the tree comes from {@link TraceCommand#tree}.
+ */
+public final class ClientTraceCommand {
+    private static final TraceCommand.Feedback<FabricClientCommandSource> FEEDBACK = new TraceCommand.Feedback<>() {
+        @Override
+        public void send(FabricClientCommandSource source, Component message, boolean broadcast) {
+            source.sendFeedback(message);
+        }
+
+        @Override
+        public void fail(FabricClientCommandSource source, Component message) {
+            source.sendError(message);
+        }
+    };
+
+    private ClientTraceCommand() {}
+
+    public static void register() {
+        ClientCommandRegistrationCallback.EVENT.register((dispatcher, registryAccess) ->
+            dispatcher.register(ClientCommandManager.literal("thcclient")
+                .then(TraceCommand.tree("Client trace", FEEDBACK))));
+    }
+}
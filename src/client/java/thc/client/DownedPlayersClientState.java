@@ -1,36 +1,62 @@
 package thc.client;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import thc.network.DownedPlayersPayload;
+import thc.network.HudStatePayload;
+import thc.trace.THCTrace;
+import thc.trace.TraceChannel;
 
 /**
  * Client-side cache of all downed players for body rendering.
+ * Built from session-keyed deltas: the server introduces each body once (UUID and name),
+ * then sends position updates by session id.
  */
 public final class DownedPlayersClientState {
-    private static final Logger LOGGER = LoggerFactory.getLogger("thc.DownedPlayersClientState");
+    private static final Int2ObjectOpenHashMap<Session> sessions = new Int2ObjectOpenHashMap<>();
     private static final Map<UUID, DownedPlayerInfo> downedPlayers = new HashMap<>();
 
     private DownedPlayersClientState() {}
 
     public record DownedPlayerInfo(double x, double y, double z, float yaw, String name) {}
 
-    public static void update(List<DownedPlayersPayload.DownedPlayerEntry> entries) {
-        LOGGER.info("[CLIENT STATE] Received update with {} entries", entries.size());
-        downedPlayers.clear();
-        for (DownedPlayersPayload.DownedPlayerEntry entry : entries) {
-            LOGGER.info("[CLIENT STATE] Adding downed player: {} at ({}, {}, {}) yaw={}",
-                entry.name(), entry.x(), entry.y(), entry.z(), entry.yaw());
-            downedPlayers.put(entry.uuid(), new DownedPlayerInfo(
-                entry.x(), entry.y(), entry.z(), entry.yaw(), entry.name()
+    private static final class Session {
+        final UUID uuid;
+        final String name;
+        float yaw;
+
+        Session(UUID uuid, String name) {
+            this.uuid = uuid;
+            this.name = name;
+        }
+    }
+
+    public static void apply(HudStatePayload.DownedDelta delta) {
+        for (int i = 0; i < delta.removed().size(); i++) {
+            Session session = sessions.remove(delta.removed().getInt(i));
+            if (session != null) {
+                downedPlayers.remove(session.uuid);
+            }
+        }
+        for (HudStatePayload.DownedIntro intro : delta.intros()) {
+            sessions.put(intro.sessionId(), new Session(intro.uuid(), intro.name()));
+        }
+        for (HudStatePayload.DownedUpdate update : delta.updates()) {
+            Session session = sessions.get(update.sessionId());
+            if (session == null) continue;
+            if (update.hasYaw()) {
+                session.yaw = update.yaw();
+            }
+            downedPlayers.put(session.uuid, new DownedPlayerInfo(
+                update.x(), update.y(), update.z(), session.yaw, session.name
             ));
         }
-        LOGGER.info("[CLIENT STATE] Now tracking {} downed players", downedPlayers.size());
+        if (TraceChannel.DOWNED_CLIENT.enabled) {
+            THCTrace.record(TraceChannel.DOWNED_CLIENT, "client state: {} intros, {} removed, tracking {}",
+                delta.intros().size(), delta.removed().size(), downedPlayers.size());
+        }
     }
 
     public static Map<UUID, DownedPlayerInfo> getDownedPlayers() {
@@ -38,6 +64,7 @@ public final class DownedPlayersClientState {
     }
 
     public static void clear() {
+        sessions.clear();
         downedPlayers.clear();
     }
 }
@@ -1,6 +1,7 @@
 package thc
 
 import net.fabricmc.api.ClientModInitializer
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking
 import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry
 import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderEvents
@@ -11,19 +12,19 @@ import org.slf4j.LoggerFactory
 import thc.client.BucklerClientState
 import thc.client.BucklerHudRenderer
 import thc.client.BucklerUseHandler
+import thc.client.ClientTraceCommand
 import thc.client.EffectsGuiConfig
 import thc.client.EffectsHudRenderer
 import thc.client.MobHealthBarConfig
 import thc.client.DownedBodyRenderer
 import thc.client.DownedPlayersClientState
 import thc.client.MobHealthBarRenderer
+import thc.client.MobStatusClientState
 import thc.client.IronBoatRenderer
 import thc.client.RevivalClientState
 import thc.client.RevivalProgressRenderer
 import thc.entity.THCEntities
-import thc.network.BucklerStatePayload
-import thc.network.DownedPlayersPayload
-import thc.network.RevivalStatePayload
+import thc.network.HudStatePayload
 
 object THCClient : ClientModInitializer {
 	private val logger = LoggerFactory.getLogger("thc")
@@ -42,31 +43,30 @@ object THCClient : ClientModInitializer {
 		}
 
 		BucklerUseHandler.register()
-		ClientPlayNetworking.registerGlobalReceiver(BucklerStatePayload.TYPE) { payload, context ->
+		ClientTraceCommand.register()
+		ClientPlayNetworking.registerGlobalReceiver(HudStatePayload.TYPE) { payload, context ->
 			context.client().execute {
-				BucklerClientState.update(payload.poise, payload.maxPoise, payload.broken, payload.lastFullTick)
+				// Only sections flagged dirty are present; the rest keep their last value
+				payload.buckler()?.let { buckler ->
+					BucklerClientState.update(buckler.poise(), buckler.maxPoise(), buckler.broken(), buckler.lastFullTick())
+				}
+				payload.revival()?.let { revival ->
+					RevivalClientState.update(revival.downedUUID(), revival.x(), revival.y(), revival.z(), revival.progress())
+				}
+				payload.downed()?.let { downed ->
+					DownedPlayersClientState.apply(downed)
+				}
+				payload.mobs()?.let { mobs ->
+					val level = context.client().level ?: return@let
+					MobStatusClientState.apply(mobs, level.gameTime)
+				}
 			}
 		}
-		ClientPlayNetworking.registerGlobalReceiver(RevivalStatePayload.TYPE) { payload, context ->
-			context.client().execute {
-				RevivalClientState.update(
-					payload.downedPlayerUUID(),
-					payload.downedX(),
-					payload.downedY(),
-					payload.downedZ(),
-					payload.progress()
-				)
-			}
-		}
-		logger.info("[THCClient] Registering DownedPlayersPayload receiver")
-		ClientPlayNetworking.registerGlobalReceiver(DownedPlayersPayload.TYPE) { payload, context ->
-			logger.info("[THCClient] Received DownedPlayersPayload with {} entries", payload.entries().size)
-			context.client().execute {
-				logger.info("[THCClient] Executing update on client thread")
-				DownedPlayersClientState.update(payload.entries())
-			}
+		// Downed session ids are per connection
+		ClientPlayConnectionEvents.DISCONNECT.register { _, _ ->
+			DownedPlayersClientState.clear()
+			MobStatusClientState.clear()
 		}
-		logger.info("[THCClient] Registering DownedBodyRenderer")
 		DownedBodyRenderer.register()
 		WorldRenderEvents.AFTER_ENTITIES.register { context ->
 			MobHealthBarRenderer.render(context)
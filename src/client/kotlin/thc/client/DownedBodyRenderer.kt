@@ -1,6 +1,7 @@
 package thc.client
 
 import com.mojang.authlib.GameProfile
+import com.mojang.blaze3d.vertex.PoseStack
 import com.mojang.math.Axis
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents
 import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderEvents
@@ -10,39 +11,31 @@ import net.minecraft.core.particles.DustParticleOptions
 import net.minecraft.world.phys.Vec3
 import org.slf4j.LoggerFactory
 import thc.mixin.client.access.CameraAccessor
+import thc.trace.THCTrace
+import thc.trace.TraceChannel
 import java.util.UUID
 
 /**
  * Renders downed player bodies and spawns red particles at their locations.
  * Uses DummyDownedPlayer (extends RemotePlayer) for proper skin rendering.
+ * The server also reports distant downed players so their beacon beam is visible from
+ * afar; bodies and particles are only drawn within BODY_RANGE.
  */
 object DownedBodyRenderer {
     private val LOGGER = LoggerFactory.getLogger("thc.DownedBodyRenderer")
     private const val PARTICLE_INTERVAL_TICKS = 5
+    private const val BODY_RANGE_SQ = 64.0 * 64.0
 
     private var tickCounter = 0
-    private var debugCounter = 0
 
     // Cache of dummy player entities by UUID
     private val dummyCache = mutableMapOf<UUID, DummyDownedPlayer>()
 
     fun register() {
-        LOGGER.info("[RENDERER] Registering DownedBodyRenderer")
-
         // Particle spawning on client tick
         ClientTickEvents.END_CLIENT_TICK.register { client ->
             if (client.level != null && client.player != null) {
                 tickCounter++
-                debugCounter++
-
-                if (debugCounter >= 100) {
-                    debugCounter = 0
-                    val downedPlayers = DownedPlayersClientState.getDownedPlayers()
-                    LOGGER.info("[RENDERER] Tick check - downed players in cache: {}", downedPlayers.size)
-                    for ((uuid, info) in downedPlayers) {
-                        LOGGER.info("[RENDERER]   - {} at ({}, {}, {}) yaw={}", info.name, info.x, info.y, info.z, info.yaw)
-                    }
-                }
 
                 if (tickCounter >= PARTICLE_INTERVAL_TICKS) {
                     tickCounter = 0
@@ -67,6 +60,15 @@ object DownedBodyRenderer {
             val gameTime = level.gameTime
 
             for ((uuid, info) in DownedPlayersClientState.getDownedPlayers()) {
+                val dx = info.x - cameraPos.x
+                val dy = info.y - cameraPos.y
+                val dz = info.z - cameraPos.z
+                if (dx * dx + dy * dy + dz * dz > BODY_RANGE_SQ) {
+                    // Too far to see the body - beam only
+                    renderBeam(stack, info, dx, dy, dz, gameTime)
+                    continue
+                }
+
                 val dummy = getOrCreateDummy(level, uuid, info.name)
 
                 // Position the dummy entity at the correct world location
@@ -77,7 +79,7 @@ object DownedBodyRenderer {
                 stack.pushPose()
 
                 // Translate to world position relative to camera
-                stack.translate(info.x - cameraPos.x, info.y - cameraPos.y, info.z - cameraPos.z)
+                stack.translate(dx, dy, dz)
 
                 // Rotate for facing direction
                 stack.mulPose(Axis.YP.rotationDegrees(-info.yaw))
@@ -103,25 +105,31 @@ object DownedBodyRenderer {
                 stack.popPose()
 
                 // Render beacon beam at downed player location (visible from distance)
-                try {
-                    BeaconBeamHelper.renderBeam(
-                        stack,
-                        info.x - cameraPos.x,
-                        info.y - cameraPos.y,
-                        info.z - cameraPos.z,
-                        BeaconBeamHelper.DOWNED_RED,
-                        gameTime
-                    )
-                } catch (e: Exception) {
-                    LOGGER.error("[RENDERER] Error rendering beacon beam for {}: {}", info.name, e.message, e)
-                }
+                renderBeam(stack, info, dx, dy, dz, gameTime)
             }
         }
     }
 
+    private fun renderBeam(
+        stack: PoseStack,
+        info: DownedPlayersClientState.DownedPlayerInfo,
+        dx: Double,
+        dy: Double,
+        dz: Double,
+        gameTime: Long
+    ) {
+        try {
+            BeaconBeamHelper.renderBeam(stack, dx, dy, dz, BeaconBeamHelper.DOWNED_RED, gameTime)
+        } catch (e: Exception) {
+            LOGGER.error("[RENDERER] Error rendering beacon beam for {}: {}", info.name, e.message, e)
+        }
+    }
+
     private fun getOrCreateDummy(level: ClientLevel, uuid: UUID, name: String): DummyDownedPlayer {
         return dummyCache.getOrPut(uuid) {
-            LOGGER.info("[RENDERER] Creating DummyDownedPlayer for {} ({})", name, uuid)
+            if (TraceChannel.DOWNED_CLIENT.enabled) {
+                THCTrace.record(TraceChannel.DOWNED_CLIENT, "creating body dummy for {} ({})", name, uuid)
+            }
             DummyDownedPlayer(level, GameProfile(uuid, name))
         }
     }
@@ -133,11 +141,10 @@ object DownedBodyRenderer {
         val downedPlayers = DownedPlayersClientState.getDownedPlayers()
         if (downedPlayers.isEmpty()) return
 
+        val viewer = client.player ?: return
         for ((uuid, info) in downedPlayers) {
             val bodyPos = Vec3(info.x, info.y, info.z)
-
-            LOGGER.info("[RENDERER] Spawning particles for {} at ({}, {}, {})",
-                info.name, bodyPos.x, bodyPos.y, bodyPos.z)
+            if (viewer.distanceToSqr(bodyPos) > BODY_RANGE_SQ) continue
 
             repeat(3) {
                 val random = level.random
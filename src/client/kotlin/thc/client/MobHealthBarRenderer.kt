@@ -24,6 +24,10 @@ import thc.mixin.client.access.CameraAccessor
  * as the player's effects GUI (frame + icon + duration overlay + roman numerals).
  *
  * Health bars are hidden when the mob is at full HP with no active effects and no absorption.
+ *
+ * When the server streams mob status summaries (MobStatusClientState.isActive), health,
+ * absorption and effect drain come from the stream; otherwise from vanilla entity data,
+ * with effect drain estimated from the longest duration seen.
  */
 object MobHealthBarRenderer {
     // Texture identifiers
@@ -78,6 +82,7 @@ object MobHealthBarRenderer {
         ) { true }
 
         renderedEntityIds.clear()
+        val streamed = MobStatusClientState.isActive
 
         for (mob in monsters) {
             // Range check (squared distance to player)
@@ -86,6 +91,16 @@ object MobHealthBarRenderer {
             // Skip invisible mobs
             if (mob.isInvisible) continue
 
+            if (streamed) {
+                // The server only streams mobs that pass the visibility gate
+                val status = MobStatusClientState.get(mob.id) ?: continue
+                renderHealthBar(mob, status.healthRatio, status.absorptionRatio, context, cameraPos, partialTick) {
+                    bufferSource, matrix, pose, _, halfH ->
+                    renderStreamedEffects(status, level.gameTime, bufferSource, matrix, pose, halfH, partialTick)
+                }
+                continue
+            }
+
             // HBAR-06: Visibility gate - skip if full HP, no effects, no absorption
             if (mob.health >= mob.maxHealth
                 && mob.activeEffects.isEmpty()
@@ -93,7 +108,12 @@ object MobHealthBarRenderer {
             ) continue
 
             renderedEntityIds.add(mob.id)
-            renderHealthBar(mob, context, cameraPos, partialTick)
+            val hpRatio = (mob.health / mob.maxHealth).coerceIn(0f, 1f)
+            val absRatio = (mob.absorptionAmount / mob.maxHealth).coerceIn(0f, 1f)
+            renderHealthBar(mob, hpRatio, absRatio, context, cameraPos, partialTick) {
+                bufferSource, matrix, pose, halfW, halfH ->
+                renderEffects(mob, bufferSource, matrix, pose, halfW, halfH, partialTick)
+            }
         }
 
         // Clean up duration tracking for mobs no longer rendered (died, moved out of range)
@@ -102,9 +122,12 @@ object MobHealthBarRenderer {
 
     private fun renderHealthBar(
         mob: Monster,
+        hpRatio: Float,
+        absRatio: Float,
         context: WorldRenderContext,
         cameraPos: net.minecraft.world.phys.Vec3,
-        partialTick: Float
+        partialTick: Float,
+        effects: (MultiBufferSource.BufferSource, Matrix4f, com.mojang.blaze3d.vertex.PoseStack.Pose, Float, Float) -> Unit
     ) {
         val stack = context.matrices()
         val camera = Minecraft.getInstance().gameRenderer.mainCamera
@@ -142,7 +165,6 @@ object MobHealthBarRenderer {
         )
 
         // Layer 2: Full bar (clipped to HP ratio)
-        val hpRatio = (mob.health / mob.maxHealth).coerceIn(0f, 1f)
         if (hpRatio > 0f) {
             val renderWidth = (INSET_PX / TEX_WIDTH) * barWidth + hpRatio * (FILL_REGION_PX / TEX_WIDTH) * barWidth
             val uEnd = (INSET_PX + hpRatio * FILL_REGION_PX) / TEX_WIDTH
@@ -157,8 +179,7 @@ object MobHealthBarRenderer {
         }
 
         // Layer 3: Absorption overlay (only if mob has absorption)
-        if (mob.absorptionAmount > 0f) {
-            val absRatio = (mob.absorptionAmount / mob.maxHealth).coerceIn(0f, 1f)
+        if (absRatio > 0f) {
             val absWidth = absRatio * (FILL_REGION_PX / TEX_WIDTH) * barWidth
             val absLeft = -halfW + (INSET_PX / TEX_WIDTH) * barWidth
 
@@ -172,7 +193,7 @@ object MobHealthBarRenderer {
         }
 
         // Render effect icons above the health bar
-        renderEffects(mob, bufferSource, matrix, pose, halfW, halfH, partialTick)
+        effects(bufferSource, matrix, pose, halfW, halfH)
 
         stack.popPose()
         bufferSource.endBatch()
@@ -227,74 +248,120 @@ object MobHealthBarRenderer {
             val effectName = loc.toString()
             activeKeys.add(effectName)
 
-            val iconX = startX + index * frameWorldSize
-            val iconY = baseY
+            // Layer 3 input: duration drain ratio
+            val durationRatio = computeDurationRatio(effectInstance, effectName, mobDurations, partialTick)
+            renderEffectIcon(
+                bufferSource, matrix, pose, effectInstance,
+                startX + index * frameWorldSize, baseY, frameWorldSize, durationRatio
+            )
+        }
 
-            // Layer 1: Frame
-            renderQuad(
+        // Clean up stale effect entries for this mob
+        mobDurations.keys.retainAll(activeKeys)
+    }
+
+    /**
+     * Renders one effect icon (frame, icon, duration overlay, numeral) at the given
+     * world-space position above the bar.
+     */
+    private fun renderEffectIcon(
+        bufferSource: MultiBufferSource.BufferSource,
+        matrix: Matrix4f,
+        pose: com.mojang.blaze3d.vertex.PoseStack.Pose,
+        effectInstance: MobEffectInstance,
+        iconX: Float,
+        iconY: Float,
+        frameWorldSize: Float,
+        durationRatio: Float
+    ) {
+        val loc = effectInstance.effect.unwrapKey().orElse(null)?.identifier() ?: return
+
+        // Layer 1: Frame
+        renderQuad(
+            bufferSource, matrix, pose,
+            EffectsHudRenderer.FRAME_TEXTURE,
+            iconX, iconY, iconX + frameWorldSize, iconY + frameWorldSize,
+            0f, 0f, 1f, 1f,
+            z = -0.003f
+        )
+
+        // Layer 2: Mob effect icon (inset within frame)
+        val iconOffset = frameWorldSize * (EffectsHudRenderer.ICON_OFFSET.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
+        val iconSize = frameWorldSize * (EffectsHudRenderer.ICON_SIZE.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
+        val iconTexture = Identifier.fromNamespaceAndPath(
+            loc.namespace,
+            "textures/mob_effect/${loc.path}.png"
+        )
+        renderQuad(
+            bufferSource, matrix, pose,
+            iconTexture,
+            iconX + iconOffset, iconY + iconOffset,
+            iconX + iconOffset + iconSize, iconY + iconOffset + iconSize,
+            0f, 0f, 1f, 1f,
+            z = -0.004f
+        )
+
+        // Layer 3: Duration overlay (green, filling from bottom upward)
+        if (durationRatio > 0f) {
+            val overlayHeight = iconSize * durationRatio
+            renderColoredQuad(
                 bufferSource, matrix, pose,
-                EffectsHudRenderer.FRAME_TEXTURE,
-                iconX, iconY, iconX + frameWorldSize, iconY + frameWorldSize,
-                0f, 0f, 1f, 1f,
-                z = -0.003f
+                iconX + iconOffset,
+                iconY + iconOffset + iconSize - overlayHeight,
+                iconX + iconOffset + iconSize,
+                iconY + iconOffset + iconSize,
+                EffectsHudRenderer.OVERLAY_COLOR,
+                z = -0.005f
             )
+        }
+
+        // Layer 4: Roman numeral (for amplifier >= 1, <= 9)
+        val amplifier = effectInstance.amplifier
+        if (amplifier in 1..9) {
+            val numeralOffsetX = frameWorldSize * (EffectsHudRenderer.NUMERAL_X.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
+            val numeralOffsetY = frameWorldSize * (EffectsHudRenderer.NUMERAL_Y.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
+            val numeralWorldW = frameWorldSize * (EffectsHudRenderer.NUMERAL_SRC_WIDTH.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
+            val numeralWorldH = frameWorldSize * (EffectsHudRenderer.NUMERAL_SRC_HEIGHT.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
+
+            // UV coordinates into the 13x90 numeral spritesheet
+            val vStart = (amplifier * EffectsHudRenderer.NUMERAL_SRC_HEIGHT).toFloat() / EffectsHudRenderer.NUMERAL_SHEET_HEIGHT.toFloat()
+            val vEnd = vStart + EffectsHudRenderer.NUMERAL_SRC_HEIGHT.toFloat() / EffectsHudRenderer.NUMERAL_SHEET_HEIGHT.toFloat()
 
-            // Layer 2: Mob effect icon (inset within frame)
-            val iconOffset = frameWorldSize * (EffectsHudRenderer.ICON_OFFSET.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
-            val iconSize = frameWorldSize * (EffectsHudRenderer.ICON_SIZE.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
-            val iconTexture = Identifier.fromNamespaceAndPath(
-                loc.namespace,
-                "textures/mob_effect/${loc.path}.png"
-            )
             renderQuad(
                 bufferSource, matrix, pose,
-                iconTexture,
-                iconX + iconOffset, iconY + iconOffset,
-                iconX + iconOffset + iconSize, iconY + iconOffset + iconSize,
-                0f, 0f, 1f, 1f,
-                z = -0.004f
+                EffectsHudRenderer.NUMERALS_TEXTURE,
+                iconX + numeralOffsetX, iconY + numeralOffsetY,
+                iconX + numeralOffsetX + numeralWorldW, iconY + numeralOffsetY + numeralWorldH,
+                0f, vStart, 1f, vEnd,
+                z = -0.006f
             )
+        }
+    }
 
-            // Layer 3: Duration overlay (green, filling from bottom upward)
-            val durationRatio = computeDurationRatio(effectInstance, effectName, mobDurations, partialTick)
-            if (durationRatio > 0f) {
-                val overlayHeight = iconSize * durationRatio
-                renderColoredQuad(
-                    bufferSource, matrix, pose,
-                    iconX + iconOffset,
-                    iconY + iconOffset + iconSize - overlayHeight,
-                    iconX + iconOffset + iconSize,
-                    iconY + iconOffset + iconSize,
-                    EffectsHudRenderer.OVERLAY_COLOR,
-                    z = -0.005f
-                )
-            }
+    /**
+     * Streamed counterpart of [renderEffects]: icons come pre-sorted from the server
+     * summary and drain is extrapolated from the last update.
+     */
+    private fun renderStreamedEffects(
+        status: MobStatusClientState.Status,
+        gameTime: Long,
+        bufferSource: MultiBufferSource.BufferSource,
+        matrix: Matrix4f,
+        pose: com.mojang.blaze3d.vertex.PoseStack.Pose,
+        halfH: Float,
+        partialTick: Float
+    ) {
+        if (status.effects.isEmpty()) return
 
-            // Layer 4: Roman numeral (for amplifier >= 1, <= 9)
-            val amplifier = effectInstance.amplifier
-            if (amplifier in 1..9) {
-                val numeralOffsetX = frameWorldSize * (EffectsHudRenderer.NUMERAL_X.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
-                val numeralOffsetY = frameWorldSize * (EffectsHudRenderer.NUMERAL_Y.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
-                val numeralWorldW = frameWorldSize * (EffectsHudRenderer.NUMERAL_SRC_WIDTH.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
-                val numeralWorldH = frameWorldSize * (EffectsHudRenderer.NUMERAL_SRC_HEIGHT.toFloat() / EffectsHudRenderer.BASE_FRAME_SIZE.toFloat())
-
-                // UV coordinates into the 13x90 numeral spritesheet
-                val vStart = (amplifier * EffectsHudRenderer.NUMERAL_SRC_HEIGHT).toFloat() / EffectsHudRenderer.NUMERAL_SHEET_HEIGHT.toFloat()
-                val vEnd = vStart + EffectsHudRenderer.NUMERAL_SRC_HEIGHT.toFloat() / EffectsHudRenderer.NUMERAL_SHEET_HEIGHT.toFloat()
-
-                renderQuad(
-                    bufferSource, matrix, pose,
-                    EffectsHudRenderer.NUMERALS_TEXTURE,
-                    iconX + numeralOffsetX, iconY + numeralOffsetY,
-                    iconX + numeralOffsetX + numeralWorldW, iconY + numeralOffsetY + numeralWorldH,
-                    0f, vStart, 1f, vEnd,
-                    z = -0.006f
-                )
-            }
+        val frameWorldSize = barHeight * (EffectsHudRenderer.BASE_FRAME_SIZE.toFloat() / TEX_HEIGHT)
+        val startX = -(status.effects.size * frameWorldSize) / 2f
+        for ((index, effect) in status.effects.withIndex()) {
+            renderEffectIcon(
+                bufferSource, matrix, pose, effect.display,
+                startX + index * frameWorldSize, halfH, frameWorldSize,
+                effect.durationRatio(gameTime, partialTick)
+            )
         }
-
-        // Clean up stale effect entries for this mob
-        mobDurations.keys.retainAll(activeKeys)
     }
 
     /**
@@ -0,0 +1,59 @@
+package thc.client
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap
+import net.minecraft.world.effect.MobEffectInstance
+import thc.network.MobStatusDelta
+
+/**
+ * Client cache of server-streamed mob health/effect summaries.
+ *
+ * Only populated when the server runs with the optional mob status stream; [isActive]
+ * turns on with the first mob section received on a connection. While active,
+ * MobHealthBarRenderer draws from this cache instead of vanilla entity data.
+ */
+object MobStatusClientState {
+    /**
+     * A streamed effect. [display] carries the effect and amplifier for sorting and icons;
+     * drain is extrapolated from the remaining ticks at receipt.
+     */
+    class Effect(
+        val display: MobEffectInstance,
+        private val remainingAtReceipt: Int,
+        private val original: Int,
+        private val receivedTick: Long
+    ) {
+        fun durationRatio(gameTime: Long, partialTick: Float): Float {
+            if (original <= 0) return 0f
+            val remaining = remainingAtReceipt - (gameTime - receivedTick) - (1.0f - partialTick)
+            return (remaining.toFloat() / original).coerceIn(0f, 1f)
+        }
+    }
+
+    class Status(val healthRatio: Float, val absorptionRatio: Float, val effects: List<Effect>)
+
+    private val statuses = Int2ObjectOpenHashMap<Status>()
+
+    var isActive = false
+        private set
+
+    fun apply(delta: MobStatusDelta, gameTime: Long) {
+        isActive = true
+        for (i in 0 until delta.removed().size) {
+            statuses.remove(delta.removed().getInt(i))
+        }
+        for (update in delta.updates()) {
+            // Sorted once on receipt rather than every frame
+            val effects = update.effects()
+                .map { Effect(MobEffectInstance(it.effect(), it.remaining(), it.amplifier()), it.remaining(), it.original(), gameTime) }
+                .sortedWith { a, b -> EffectsHudRenderer.effectComparator.compare(a.display, b.display) }
+            statuses.put(update.entityId(), Status(update.healthRatio(), update.absorptionRatio(), effects))
+        }
+    }
+
+    fun get(entityId: Int): Status? = statuses.get(entityId)
+
+    fun clear() {
+        isActive = false
+        statuses.clear()
+    }
+}
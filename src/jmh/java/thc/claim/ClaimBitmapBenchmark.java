@@ -0,0 +1,83 @@
+package thc.claim;
+
+import net.minecraft.world.level.ChunkPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claimed-chunk lookups through {@link ClaimBitmap}, the index behind
+ * ClaimManager.isClaimed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ClaimBitmapBenchmark {
+	private static final int QUERIES = 4096;
+
+	@Param({"10000", "100000"})
+	public int claims;
+
+	private ClaimBitmap bitmap;
+	private final int[] scatteredX = new int[QUERIES];
+	private final int[] scatteredZ = new int[QUERIES];
+	private final int[] localX = new int[QUERIES];
+	private final int[] localZ = new int[QUERIES];
+	private int cursor;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		this.bitmap = new ClaimBitmap();
+
+		// Claims come in bases of up to 5x5 chunks spread over a large world
+		int added = 0;
+		int centerX = 0;
+		int centerZ = 0;
+		while (added < this.claims) {
+			centerX = random.nextInt(20000) - 10000;
+			centerZ = random.nextInt(20000) - 10000;
+			int size = 1 + random.nextInt(5);
+			for (int dx = 0; dx < size && added < this.claims; dx++) {
+				for (int dz = 0; dz < size && added < this.claims; dz++) {
+					this.bitmap.add(ChunkPos.asLong(centerX + dx, centerZ + dz));
+					added++;
+				}
+			}
+		}
+
+		for (int i = 0; i < QUERIES; i++) {
+			this.scatteredX[i] = random.nextInt(20000) - 10000;
+			this.scatteredZ[i] = random.nextInt(20000) - 10000;
+			// Spawn attempts around one player: within 8 chunks of the last base
+			this.localX[i] = centerX + random.nextInt(17) - 8;
+			this.localZ[i] = centerZ + random.nextInt(17) - 8;
+		}
+	}
+
+	@Benchmark
+	public boolean isClaimedScattered() {
+		int i = this.cursor++ & (QUERIES - 1);
+		return this.bitmap.contains(this.scatteredX[i], this.scatteredZ[i]);
+	}
+
+	@Benchmark
+	public boolean isClaimedLocal() {
+		int i = this.cursor++ & (QUERIES - 1);
+		return this.bitmap.contains(this.localX[i], this.localZ[i]);
+	}
+}
@@ -0,0 +1,85 @@
+package thc.enchant;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderOwner;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.Identifier;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.enchantment.Enchantment;
+import net.minecraft.world.item.enchantment.ItemEnchantments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EnchantmentEnforcement#stripAndNormalize} on loot-sized enchantment sets.
+ * Holders are stand-alone references, so only their keys are real; stripAndNormalize
+ * reads nothing else, so the plain vanilla bootstrap (as in SpawnDistributionsBenchmark)
+ * is enough and no mixins are involved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EnchantmentEnforcementBenchmark {
+	/**
+	 * clean: already normalized (the common case on re-checks); normalize: vanilla levels;
+	 * strip: includes removed enchantments.
+	 */
+	@Param({"clean", "normalize", "strip"})
+	public String scenario;
+
+	private ItemEnchantments enchantments;
+
+	@Setup
+	public void setup() {
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+
+		ItemEnchantments.Mutable builder = new ItemEnchantments.Mutable(ItemEnchantments.EMPTY);
+		switch (this.scenario) {
+			case "clean" -> {
+				builder.set(holder("efficiency"), 3);
+				builder.set(holder("unbreaking"), 3);
+				builder.set(holder("mending"), 1);
+			}
+			case "normalize" -> {
+				builder.set(holder("efficiency"), 5);
+				builder.set(holder("unbreaking"), 2);
+				builder.set(holder("mending"), 1);
+			}
+			default -> {
+				builder.set(holder("sharpness"), 5);
+				builder.set(holder("knockback"), 2);
+				builder.set(holder("thorns"), 3);
+			}
+		}
+		this.enchantments = builder.toImmutable();
+	}
+
+	@Benchmark
+	public ItemEnchantments stripAndNormalize() {
+		return EnchantmentEnforcement.INSTANCE.stripAndNormalize(this.enchantments);
+	}
+
+	private static Holder<Enchantment> holder(String name) {
+		HolderOwner<Enchantment> owner = new HolderOwner<>() {
+		};
+		return Holder.Reference.createStandAlone(owner,
+			ResourceKey.create(Registries.ENCHANTMENT, Identifier.withDefaultNamespace(name)));
+	}
+}
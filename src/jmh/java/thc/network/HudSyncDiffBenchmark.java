@@ -0,0 +1,91 @@
+package thc.network;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick diffing done before anything reaches the HUD bundle: buckler state built by
+ * {@link BucklerSync#state} against a player's {@link HudBundle.LastSent}, and downed-body
+ * positions against a viewer's {@link DownedPlayersSync.View}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HudSyncDiffBenchmark {
+	private static final int SAMPLES = 1024;
+
+	@Param({"1", "8", "32"})
+	public int bodies;
+
+	private final double[] poise = new double[SAMPLES];
+	private final HudBundle.LastSent lastSent = new HudBundle.LastSent();
+
+	private final DownedPlayersSync.View view = new DownedPlayersSync.View();
+	private UUID[] uuids;
+	private double[][] positions;
+	private int cursor;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		// Poise mostly holds steady and occasionally regenerates
+		double value = 10.0;
+		for (int i = 0; i < SAMPLES; i++) {
+			if (random.nextInt(8) == 0) {
+				value = Math.min(20.0, value + 0.25);
+			}
+			this.poise[i] = value;
+		}
+		this.lastSent.recordBuckler(BucklerSync.state(value, 20.0, false, 0L));
+
+		this.uuids = new UUID[this.bodies];
+		this.positions = new double[this.bodies][3];
+		for (int i = 0; i < this.bodies; i++) {
+			this.uuids[i] = new UUID(random.nextLong(), random.nextLong());
+			this.positions[i][0] = random.nextInt(2000) - 1000 + 0.5;
+			this.positions[i][1] = 64.0;
+			this.positions[i][2] = random.nextInt(2000) - 1000 + 0.5;
+		}
+		// The viewer already knows every session
+		downedDiff();
+	}
+
+	@Benchmark
+	public boolean bucklerDiff() {
+		return this.lastSent.recordBuckler(BucklerSync.state(
+			this.poise[this.cursor++ & (SAMPLES - 1)], 20.0, false, 0L));
+	}
+
+	/**
+	 * One near-tier pass: bodies are stationary, except one that slides a little each tick.
+	 */
+	@Benchmark
+	public int downedDiff() {
+		int moving = this.cursor++ % this.bodies;
+		this.positions[moving][0] += 0.05;
+		int changed = 0;
+		for (int i = 0; i < this.bodies; i++) {
+			double[] position = this.positions[i];
+			if (this.view.diff(i, this.uuids[i], position[0], position[1], position[2], 90.0F, true) != null) {
+				changed++;
+			}
+		}
+		return changed;
+	}
+}
@@ -0,0 +1,126 @@
+package thc.spawn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import thc.access.SurfaceHeightCacheAccess;
+import thc.access.SurfaceHeightSource;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RegionDetector} Overworld classification through {@link SurfaceHeightCache},
+ * with stub chunks standing in for loaded LevelChunks and a stub heightmap behind them.
+ * Only the level's chunk lookup is replaced; the cache arrays, miss path and region
+ * checks are the real ones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RegionDetectorBenchmark {
+	private static final int POSITIONS = 4096;
+	private static final int CHUNKS = 16;
+
+	/**
+	 * warm: every column already cached; cold: caches are dropped before each pass,
+	 * as after heavy block updates.
+	 */
+	@Param({"warm", "cold"})
+	public String cache;
+
+	private StubLevel level;
+	private final int[] xs = new int[POSITIONS];
+	private final int[] ys = new int[POSITIONS];
+	private final int[] zs = new int[POSITIONS];
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+		this.level = new StubLevel(random);
+		// Spawn attempts span the whole build height, so all three regions are hit
+		for (int i = 0; i < POSITIONS; i++) {
+			this.xs[i] = random.nextInt(CHUNKS * 16);
+			this.ys[i] = -64 + random.nextInt(384);
+			this.zs[i] = random.nextInt(CHUNKS * 16);
+		}
+		for (int i = 0; i < POSITIONS; i++) {
+			RegionDetector.getOverworldRegion(this.level, this.xs[i], this.ys[i], this.zs[i]);
+		}
+	}
+
+	/**
+	 * One batch of spawn attempts over a 16x16 chunk area.
+	 */
+	@Benchmark
+	public int getRegion() {
+		if (this.cache.equals("cold")) {
+			this.level.invalidateAll();
+		}
+		int surface = 0;
+		for (int i = 0; i < POSITIONS; i++) {
+			if (RegionDetector.getOverworldRegion(this.level, this.xs[i], this.ys[i], this.zs[i]) == SpawnRegion.OW_SURFACE) {
+				surface++;
+			}
+		}
+		return surface;
+	}
+
+	private static final class StubLevel implements SurfaceHeightSource {
+		private final StubChunk[] chunks = new StubChunk[CHUNKS * CHUNKS];
+
+		StubLevel(Random random) {
+			for (int i = 0; i < this.chunks.length; i++) {
+				this.chunks[i] = new StubChunk(random);
+			}
+		}
+
+		@Override
+		public int thc$getSurfaceY(int x, int z) {
+			return SurfaceHeightCache.getSurfaceY(this.chunks[(x >> 4) + (z >> 4) * CHUNKS], x, z);
+		}
+
+		void invalidateAll() {
+			for (StubChunk chunk : this.chunks) {
+				SurfaceHeightCache.invalidateAll(chunk);
+			}
+		}
+	}
+
+	private static final class StubChunk implements SurfaceHeightCacheAccess {
+		private final short[] heightmap = new short[256];
+		private short[] surfaceHeights;
+
+		StubChunk(Random random) {
+			for (int i = 0; i < this.heightmap.length; i++) {
+				this.heightmap[i] = (short) (62 + random.nextInt(30));
+			}
+		}
+
+		@Override
+		public short[] thc$getSurfaceHeights() {
+			return this.surfaceHeights;
+		}
+
+		@Override
+		public void thc$setSurfaceHeights(short[] heights) {
+			this.surfaceHeights = heights;
+		}
+
+		@Override
+		public int thc$computeSurfaceY(int x, int z) {
+			return this.heightmap[(x & 15) | (z & 15) << 4];
+		}
+	}
+}
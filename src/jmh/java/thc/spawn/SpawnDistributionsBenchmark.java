@@ -0,0 +1,67 @@
+package thc.spawn;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.EntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted mob selection as done by {@link SpawnDistributions#selectMob} once the
+ * dimension/region/stage table has been resolved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SpawnDistributionsBenchmark {
+	private static final EntityType<?>[] TYPES = {
+		EntityType.WITCH, EntityType.VEX, EntityType.PILLAGER, EntityType.BLAZE, EntityType.BREEZE
+	};
+
+	/**
+	 * Table size including the vanilla fallback entry.
+	 */
+	@Param({"2", "6", "32"})
+	public int entries;
+
+	private SpawnDistributions.AliasTable table;
+	private RandomSource random;
+
+	@Setup
+	public void setup() {
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+
+		List<SpawnDistributions.WeightedEntry> list = new ArrayList<>();
+		for (int i = 0; i < this.entries - 1; i++) {
+			list.add(new SpawnDistributions.WeightedEntry(Optional.of(TYPES[i % TYPES.length]), Optional.empty(), 5 + i * 7));
+		}
+		list.add(new SpawnDistributions.WeightedEntry(Optional.empty(), Optional.empty(), 60));
+
+		this.table = SpawnDistributions.AliasTable.compile(list);
+		this.random = RandomSource.create(42L);
+	}
+
+	@Benchmark
+	public SpawnDistributions.MobSelection selectMob() {
+		return this.table.sample(this.random);
+	}
+}
@@ -0,0 +1,69 @@
+package thc.threat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ThreatTable} operations behind ThreatManager and ThreatRegistry at varying
+ * attacker counts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ThreatTableBenchmark {
+	@Param({"1", "5", "20", "50"})
+	public int attackers;
+
+	private ThreatTable table;
+	private int cursor;
+
+	@Setup
+	public void setup() {
+		this.table = new ThreatTable();
+		for (int player = 0; player < this.attackers; player++) {
+			this.table.add(player, 1000.0 + player);
+		}
+	}
+
+	/**
+	 * Damage from one of the attackers, then target selection.
+	 */
+	@Benchmark
+	public int addThreat() {
+		this.table.add(this.cursor++ % this.attackers, 0.5);
+		return this.table.highestSlot();
+	}
+
+	/**
+	 * One decay pass (the amount never drops an entry, so the table stays the same size).
+	 */
+	@Benchmark
+	public int decay() {
+		this.table.decay(1.0E-6);
+		return this.table.size();
+	}
+
+	/**
+	 * Overwriting an entry invalidates the cached argmax, forcing a full scan.
+	 */
+	@Benchmark
+	public int argmaxAfterSet() {
+		int player = this.cursor++ % this.attackers;
+		this.table.set(player, 1000.0 + player);
+		return this.table.highestSlot();
+	}
+}
@@ -6,10 +6,8 @@ import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
 import net.minecraft.resources.Identifier;
 
 import net.minecraft.world.phys.Vec3;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import thc.spawn.SpawnRegion;
+import thc.threat.ThreatTable;
 
 public final class THCAttachments {
 	public static final AttachmentType<Double> MAX_HEALTH = AttachmentRegistry.create(
@@ -51,13 +49,9 @@ public final class THCAttachments {
 		Identifier.fromNamespaceAndPath("thc", "wind_charge_boosted"),
 		builder -> builder.initializer(() -> Boolean.FALSE)
 	);
-	public static final AttachmentType<Map<UUID, Double>> MOB_THREAT = AttachmentRegistry.create(
+	public static final AttachmentType<ThreatTable> MOB_THREAT = AttachmentRegistry.create(
 		Identifier.fromNamespaceAndPath("thc", "mob_threat"),
-		builder -> builder.initializer(HashMap::new)
-	);
-	public static final AttachmentType<Long> THREAT_LAST_DECAY = AttachmentRegistry.create(
-		Identifier.fromNamespaceAndPath("thc", "threat_last_decay"),
-		builder -> builder.initializer(() -> 0L)
+		builder -> builder.initializer(ThreatTable::new)
 	);
 	public static final AttachmentType<String> PLAYER_CLASS = AttachmentRegistry.create(
 		Identifier.fromNamespaceAndPath("thc", "player_class"),
@@ -75,11 +69,15 @@ public final class THCAttachments {
 			builder.copyOnDeath();
 		}
 	);
-	public static final AttachmentType<String> SPAWN_REGION = AttachmentRegistry.create(
+	/**
+	 * Region a naturally spawned mob was tagged with. Persisted by ordinal; older saves
+	 * holding the region name are migrated on load by {@link SpawnRegion#CODEC}.
+	 */
+	public static final AttachmentType<SpawnRegion> SPAWN_REGION = AttachmentRegistry.create(
 		Identifier.fromNamespaceAndPath("thc", "spawn_region"),
 		builder -> {
 			builder.initializer(() -> null);
-			builder.persistent(Codec.STRING);
+			builder.persistent(SpawnRegion.CODEC);
 		}
 	);
 	public static final AttachmentType<Boolean> SPAWN_COUNTED = AttachmentRegistry.create(
@@ -0,0 +1,24 @@
+package thc;
+
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.minecraft.commands.Commands;
+import net.minecraft.server.permissions.Permissions;
+import thc.tick.ProfileCommand;
+import thc.trace.TraceCommand;
+
+/**
+ * Operator-only {@code /thc} root. Diagnostic subcommands attach here so the root node is
+ * registered exactly once.
+ */
+public final class THCCommand {
+	private THCCommand() {}
+
+	public static void register() {
+		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
+			dispatcher.register(Commands.literal("thc")
+				.requires(source -> source.permissions().hasPermission(Permissions.COMMANDS_GAMEMASTER))
+				.then(ProfileCommand.node())
+				.then(TraceCommand.node()));
+		});
+	}
+}
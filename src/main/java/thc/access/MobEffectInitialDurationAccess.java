@@ -0,0 +1,5 @@
+package thc.access;
+
+public interface MobEffectInitialDurationAccess {
+	int thc$getInitialDuration();
+}
@@ -0,0 +1,15 @@
+package thc.access;
+
+/**
+ * Per-chunk surface height cache storage, implemented on LevelChunk by LevelChunkSurfaceCacheMixin.
+ * See thc.spawn.SurfaceHeightCache.
+ */
+public interface SurfaceHeightCacheAccess {
+	short[] thc$getSurfaceHeights();
+	void thc$setSurfaceHeights(short[] heights);
+
+	/**
+	 * Uncached MOTION_BLOCKING surface Y of a column in this chunk.
+	 */
+	int thc$computeSurfaceY(int x, int z);
+}
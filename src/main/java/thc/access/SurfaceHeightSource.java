@@ -0,0 +1,9 @@
+package thc.access;
+
+/**
+ * Surface height lookups for thc.spawn.RegionDetector, implemented on ServerLevel by
+ * ServerLevelSurfaceHeightMixin through thc.spawn.SurfaceHeightCache.
+ */
+public interface SurfaceHeightSource {
+	int thc$getSurfaceY(int x, int z);
+}
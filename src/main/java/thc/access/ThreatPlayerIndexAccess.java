@@ -0,0 +1,10 @@
+package thc.access;
+
+/**
+ * Cached thc.threat.PlayerIndex slot, implemented on ServerPlayer by ServerPlayerMixin.
+ * Stored as slot + 1 so the default field value means "not yet resolved".
+ */
+public interface ThreatPlayerIndexAccess {
+	int thc$getThreatIndex();
+	void thc$setThreatIndex(int index);
+}
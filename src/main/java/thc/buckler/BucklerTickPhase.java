@@ -0,0 +1,84 @@
+package thc.buckler;
+
+import net.minecraft.server.level.ServerPlayer;
+import thc.item.BucklerItem;
+import thc.network.BucklerSync;
+import thc.tick.PlayerTickContext;
+import thc.tick.PlayerTickPhase;
+
+/**
+ * Player tick phase for buckler poise: tracks the raise tick, drains poise while
+ * raised (breaking the buckler at zero), regenerates it while lowered, and syncs
+ * the result to the client in the finishing pass, alongside the rest of the HUD bundle.
+ */
+public final class BucklerTickPhase implements PlayerTickPhase {
+	public static final BucklerTickPhase INSTANCE = new BucklerTickPhase();
+
+	private static final double DRAIN_PER_TICK = 0.5 / 10.0;
+
+	private BucklerTickPhase() {
+	}
+
+	@Override
+	public String name() {
+		return "buckler";
+	}
+
+	@Override
+	public void tickPlayer(PlayerTickContext context) {
+		ServerPlayer player = context.player();
+		long tick = player.level().getGameTime();
+		boolean isRaised = BucklerItem.isBucklerRaised(player);
+		long raiseTick = BucklerState.getRaiseTick(player);
+		if (isRaised) {
+			if (raiseTick < 0L) {
+				BucklerState.setRaiseTick(player, tick);
+			}
+		} else if (raiseTick >= 0L) {
+			BucklerState.setRaiseTick(player, -1L);
+		}
+
+		BucklerStats stats = BucklerStatsRegistry.INSTANCE.forStack(player.getOffhandItem());
+		if (stats != null) {
+			BucklerState.setMaxPoise(player, stats.getMaxPoiseHearts());
+		}
+		double maxPoise = stats != null ? stats.getMaxPoiseHearts() : BucklerState.getMaxPoise(player);
+		if (maxPoise <= 0.0) {
+			return;
+		}
+
+		double poise = BucklerState.getPoise(player);
+		if (poise > maxPoise) {
+			poise = maxPoise;
+			BucklerState.setPoise(player, poise);
+		}
+
+		if (isRaised) {
+			if (poise > 0.0) {
+				double updatedPoise = Math.max(0.0, poise - DRAIN_PER_TICK);
+				BucklerState.setPoise(player, updatedPoise);
+				if (updatedPoise <= 0.0) {
+					BucklerState.setBroken(player, true);
+					player.stopUsingItem();
+				}
+			}
+		} else {
+			double regenPerTick = maxPoise / 4.0 / 20.0;
+			if (poise < maxPoise) {
+				double updatedPoise = Math.min(maxPoise, poise + regenPerTick);
+				BucklerState.setPoise(player, updatedPoise);
+				if (updatedPoise >= maxPoise) {
+					BucklerState.setLastFullTick(player, tick);
+					if (BucklerState.isBroken(player)) {
+						BucklerState.setBroken(player, false);
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void finishPlayer(PlayerTickContext context) {
+		BucklerSync.sync(context.player());
+	}
+}
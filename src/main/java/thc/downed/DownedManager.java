@@ -18,6 +18,8 @@ public final class DownedManager {
 	 * Called during mod initialization.
 	 */
 	public static void register() {
+		DownedSpatialIndex.register();
+
 		ServerLivingEntityEvents.ALLOW_DEATH.register((entity, damageSource, damageAmount) -> {
 			if (!(entity instanceof ServerPlayer player)) {
 				return true; // Allow non-player deaths
@@ -0,0 +1,195 @@
+package thc.downed;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Per-level spatial hash of downed player locations.
+ *
+ * <p>Downed locations are bucketed into 16x16 column cells so revival and sync can ask
+ * "which downed players are near here" without testing every player pair. The hash is
+ * rebuilt lazily on the first query after a DOWNED_LOCATION change (see
+ * {@link DownedState}) or a player joining, leaving, respawning or changing level; in
+ * between, queries do no attachment reads. Entries whose player has since left
+ * spectator mode are filtered at query time, matching {@link DownedState#isDowned}.
+ *
+ * <p>Each downed player also gets a small session id for as long as they stay downed, so
+ * sync can refer to a body by a varint instead of its UUID and name. Ids are recycled
+ * once the session ends.
+ */
+public final class DownedSpatialIndex {
+	private static final int CELL_SHIFT = 4;
+
+	private static final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<ArrayList<Entry>>> CELLS = new HashMap<>();
+	private static final ArrayList<Entry> ALL = new ArrayList<>();
+	private static final Int2ObjectOpenHashMap<Entry> BY_SESSION = new Int2ObjectOpenHashMap<>();
+	private static final Object2IntOpenHashMap<UUID> SESSION_IDS = new Object2IntOpenHashMap<>();
+	private static final IntArrayFIFOQueue FREE_SESSION_IDS = new IntArrayFIFOQueue();
+	private static int nextSessionId;
+	private static boolean dirty = true;
+
+	private DownedSpatialIndex() {
+	}
+
+	/**
+	 * Registers the events that invalidate the index. Called from {@link DownedManager#register()}.
+	 */
+	static void register() {
+		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> markDirty());
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> markDirty());
+		ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> markDirty());
+		ServerEntityWorldChangeEvents.AFTER_PLAYER_CHANGE_WORLD.register((player, origin, destination) -> markDirty());
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+			CELLS.clear();
+			ALL.clear();
+			BY_SESSION.clear();
+			SESSION_IDS.clear();
+			FREE_SESSION_IDS.clear();
+			nextSessionId = 0;
+			dirty = true;
+		});
+	}
+
+	/**
+	 * Flags the index for rebuild on the next query.
+	 */
+	public static void markDirty() {
+		dirty = true;
+	}
+
+	/**
+	 * Rebuilds the hash from the online players if anything changed since the last build.
+	 */
+	public static void ensureBuilt(MinecraftServer server) {
+		if (!dirty) {
+			return;
+		}
+		for (Long2ObjectOpenHashMap<ArrayList<Entry>> cells : CELLS.values()) {
+			cells.clear();
+		}
+		ALL.clear();
+		BY_SESSION.clear();
+		for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+			if (!DownedState.isDowned(player)) continue;
+			Vec3 location = DownedState.getDownedLocation(player);
+			Entry entry = new Entry(player, location, sessionIdFor(player.getUUID()));
+			ALL.add(entry);
+			BY_SESSION.put(entry.sessionId, entry);
+			long key = cellKey(Mth.floor(location.x) >> CELL_SHIFT, Mth.floor(location.z) >> CELL_SHIFT);
+			CELLS.computeIfAbsent(player.level().dimension(), dimension -> new Long2ObjectOpenHashMap<>())
+				.computeIfAbsent(key, k -> new ArrayList<>())
+				.add(entry);
+		}
+		releaseEndedSessions();
+		dirty = false;
+	}
+
+	private static int sessionIdFor(UUID uuid) {
+		if (SESSION_IDS.containsKey(uuid)) {
+			return SESSION_IDS.getInt(uuid);
+		}
+		int id = FREE_SESSION_IDS.isEmpty() ? nextSessionId++ : FREE_SESSION_IDS.dequeueInt();
+		SESSION_IDS.put(uuid, id);
+		return id;
+	}
+
+	private static void releaseEndedSessions() {
+		var iterator = SESSION_IDS.object2IntEntrySet().iterator();
+		while (iterator.hasNext()) {
+			int id = iterator.next().getIntValue();
+			if (!BY_SESSION.containsKey(id)) {
+				iterator.remove();
+				FREE_SESSION_IDS.enqueue(id);
+			}
+		}
+	}
+
+	/**
+	 * The entry for a live session id, or null if that session has ended (the id may since
+	 * have been reused; compare the player's UUID).
+	 */
+	public static Entry session(int sessionId) {
+		Entry entry = BY_SESSION.get(sessionId);
+		return entry != null && entry.isStillDowned() ? entry : null;
+	}
+
+	/**
+	 * Whether any player was downed at the last build.
+	 */
+	public static boolean isEmpty() {
+		return ALL.isEmpty();
+	}
+
+	/**
+	 * All downed players across levels. Callers must not modify the list.
+	 */
+	public static List<Entry> all() {
+		return ALL;
+	}
+
+	/**
+	 * Collects downed players in {@code dimension} within {@code radius} (3D) of the given
+	 * point into {@code out}. Only the cells overlapping the query square are visited.
+	 */
+	public static void collectWithin(ResourceKey<Level> dimension, double x, double y, double z,
+			double radius, List<Entry> out) {
+		if (ALL.isEmpty()) return;
+		Long2ObjectOpenHashMap<ArrayList<Entry>> cells = CELLS.get(dimension);
+		if (cells == null || cells.isEmpty()) return;
+
+		double radiusSq = radius * radius;
+		int minCellX = Mth.floor(x - radius) >> CELL_SHIFT;
+		int maxCellX = Mth.floor(x + radius) >> CELL_SHIFT;
+		int minCellZ = Mth.floor(z - radius) >> CELL_SHIFT;
+		int maxCellZ = Mth.floor(z + radius) >> CELL_SHIFT;
+		for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+			for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+				ArrayList<Entry> bucket = cells.get(cellKey(cellX, cellZ));
+				if (bucket == null) continue;
+				for (int i = 0, n = bucket.size(); i < n; i++) {
+					Entry entry = bucket.get(i);
+					if (!entry.isStillDowned()) continue;
+					if (entry.location.distanceToSqr(x, y, z) <= radiusSq) {
+						out.add(entry);
+					}
+				}
+			}
+		}
+	}
+
+	private static long cellKey(int cellX, int cellZ) {
+		return ChunkPos.asLong(cellX, cellZ);
+	}
+
+	/**
+	 * A downed player, the location they went down at and their session id.
+	 */
+	public record Entry(ServerPlayer player, Vec3 location, int sessionId) {
+		/**
+		 * Cheap recheck of the spectator half of {@link DownedState#isDowned}; the location
+		 * half is covered by the rebuild on DOWNED_LOCATION changes.
+		 */
+		public boolean isStillDowned() {
+			return player.gameMode.getGameModeForPlayer() == GameType.SPECTATOR;
+		}
+	}
+}
@@ -33,6 +33,7 @@ public final class DownedState {
 	 */
 	public static void setDownedLocation(ServerPlayer player, Vec3 location) {
 		target(player).setAttached(THCAttachments.DOWNED_LOCATION, location);
+		DownedSpatialIndex.markDirty();
 	}
 
 	/**
@@ -52,6 +53,7 @@ public final class DownedState {
 	public static void clearDowned(ServerPlayer player) {
 		// Clear downed location
 		target(player).setAttached(THCAttachments.DOWNED_LOCATION, null);
+		DownedSpatialIndex.markDirty();
 		// Also clear revival progress
 		RevivalState.clearProgress(player);
 	}
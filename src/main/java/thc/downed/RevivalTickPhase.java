@@ -0,0 +1,112 @@
+package thc.downed;
+
+import java.util.List;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.phys.Vec3;
+import thc.jfr.RevivalEvent;
+import thc.playerclass.ClassManager;
+import thc.tick.PlayerTickContext;
+import thc.tick.PlayerTickPhase;
+import thc.trace.THCTrace;
+import thc.trace.TraceChannel;
+
+/**
+ * Player tick phase for revival. Each sneaking, non-downed player adds progress to
+ * every downed player within 2 blocks; once all players have been visited, downed
+ * players that reached full progress are revived.
+ */
+public final class RevivalTickPhase implements PlayerTickPhase {
+	public static final RevivalTickPhase INSTANCE = new RevivalTickPhase();
+
+	/**
+	 * Revivers must be within 2 blocks of the downed location.
+	 */
+	private static final double REVIVE_RANGE = 2.0;
+
+	private RevivalTickPhase() {
+	}
+
+	@Override
+	public String name() {
+		return "revival";
+	}
+
+	@Override
+	public void tickPlayer(PlayerTickContext context) {
+		if (!context.anyDowned()) return;
+
+		// Must be alive (not downed) and sneaking
+		if (context.isDowned()) return;
+		ServerPlayer reviver = context.player();
+		if (!reviver.isShiftKeyDown()) return;
+
+		// Support: 100 ticks = 5 seconds to reach 1.0; others: 200 ticks = 10 seconds
+		double progressRate = ClassManager.isSupport(reviver) ? 1.0 / 100.0 : 0.5 / 100.0;
+
+		// Accumulate progress on every downed player in range
+		List<DownedSpatialIndex.Entry> inRange = context.downedNear(
+			reviver.getX(), reviver.getY(), reviver.getZ(), REVIVE_RANGE);
+		for (int i = 0; i < inRange.size(); i++) {
+			RevivalState.addProgress(inRange.get(i).player(), progressRate);
+		}
+	}
+
+	@Override
+	public void endTick(PlayerTickContext context) {
+		// Check for revival completion after every reviver has contributed
+		List<DownedSpatialIndex.Entry> downedPlayers = DownedSpatialIndex.all();
+		if (downedPlayers.isEmpty()) return;
+
+		RevivalEvent event = new RevivalEvent();
+		event.begin();
+		int revived = 0;
+		for (int i = 0; i < downedPlayers.size(); i++) {
+			DownedSpatialIndex.Entry entry = downedPlayers.get(i);
+			if (entry.isStillDowned() && RevivalState.getProgress(entry.player()) >= 1.0) {
+				completeRevival(entry.player(), entry.location());
+				revived++;
+			}
+		}
+		if (event.shouldCommit()) {
+			event.downed = downedPlayers.size();
+			event.revived = revived;
+			event.commit();
+		}
+	}
+
+	private static void completeRevival(ServerPlayer player, Vec3 downedLocation) {
+		if (TraceChannel.REVIVAL.enabled) {
+			THCTrace.record(TraceChannel.REVIVAL, "revived {} at {}", player.getName().getString(), downedLocation);
+		}
+
+		// Clear downed state (also clears revival progress)
+		DownedState.clearDowned(player);
+
+		// Restore to survival mode
+		player.setGameMode(GameType.SURVIVAL);
+
+		// Teleport to downed location
+		player.teleportTo(downedLocation.x, downedLocation.y, downedLocation.z);
+
+		// Set health to 50% of max
+		player.setHealth(player.getMaxHealth() * 0.5f);
+
+		// Set food level to 6 (CONTEXT.md override: not 0)
+		player.getFoodData().setFoodLevel(6);
+
+		// Spawn green particles (HAPPY_VILLAGER)
+		ServerLevel level = (ServerLevel) player.level();
+		level.sendParticles(
+			ParticleTypes.HAPPY_VILLAGER,
+			downedLocation.x,
+			downedLocation.y + 1.0,
+			downedLocation.z,
+			30,            // count
+			0.5, 0.5, 0.5, // spread (x, y, z)
+			0.0            // speed
+		);
+	}
+}
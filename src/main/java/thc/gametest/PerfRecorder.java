@@ -0,0 +1,159 @@
+package thc.gametest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.server.MinecraftServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import thc.tick.PlayerTickPipeline;
+import thc.tick.SubsystemTimings;
+
+/**
+ * Per-tick cost samples for one performance scenario, written as JSON to the file named by
+ * the {@code thc.perfReport} system property (set by the perfGametest run; defaults to
+ * {@code gametest-perf.json} in the run directory).
+ *
+ * <p>Every tick the recorder copies each {@link PlayerTickPipeline} phase's last-tick time,
+ * and drains the {@link SubsystemTimings} of threat propagation, spawn replacement, claim
+ * and village checks and mining fatigue, which it enables while recording. On finish it
+ * reduces each series to mean, percentiles and a power-of-two histogram. All scenarios of
+ * a run share one report file, rewritten as each scenario finishes.
+ */
+final class PerfRecorder {
+	private static final Logger LOGGER = LoggerFactory.getLogger("thc.PerfRecorder");
+	private static final String REPORT_PROPERTY = "thc.perfReport";
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+	private static final Map<String, JsonObject> SCENARIOS = new LinkedHashMap<>();
+
+	private final String scenario;
+	private final int players;
+	private final int mobs;
+	private final List<String> phases = new ArrayList<>();
+	private final SubsystemTimings.Subsystem[] subsystems = SubsystemTimings.subsystems();
+	private final long[] drained = new long[this.subsystems.length];
+	private long[][] samples;
+	private long[][] subsystemSamples;
+	private int count;
+
+	private PerfRecorder(String scenario, int players, int mobs, int ticks) {
+		this.scenario = scenario;
+		this.players = players;
+		this.mobs = mobs;
+		for (PlayerTickPipeline.PhaseTiming timing : PlayerTickPipeline.timings()) {
+			this.phases.add(timing.name());
+		}
+		this.samples = new long[this.phases.size()][ticks];
+		this.subsystemSamples = new long[this.subsystems.length][ticks];
+
+		// Discard anything accumulated before the scenario started
+		SubsystemTimings.setEnabled(true);
+		SubsystemTimings.drain(this.drained);
+	}
+
+	static PerfRecorder begin(String scenario, int players, int mobs, int ticks) {
+		return new PerfRecorder(scenario, players, mobs, ticks);
+	}
+
+	/**
+	 * Records the most recently completed pipeline tick, and subsystem time since the
+	 * previous sample.
+	 */
+	void sample() {
+		if (this.count == this.samples[0].length) return;
+		List<PlayerTickPipeline.PhaseTiming> timings = PlayerTickPipeline.timings();
+		for (int i = 0; i < this.phases.size(); i++) {
+			this.samples[i][this.count] = timings.get(i).lastNanos();
+		}
+		SubsystemTimings.drain(this.drained);
+		for (int i = 0; i < this.subsystems.length; i++) {
+			this.subsystemSamples[i][this.count] = this.drained[i];
+		}
+		this.count++;
+	}
+
+	void finish(MinecraftServer server) {
+		SubsystemTimings.setEnabled(false);
+
+		JsonObject result = new JsonObject();
+		result.addProperty("players", this.players);
+		result.addProperty("mobs", this.mobs);
+		result.addProperty("ticks", this.count);
+		result.addProperty("averageServerTickNanos", server.getAverageTickTimeNanos());
+
+		JsonObject phaseResults = new JsonObject();
+		for (int i = 0; i < this.phases.size(); i++) {
+			phaseResults.add(this.phases.get(i), summarize(Arrays.copyOf(this.samples[i], this.count)));
+		}
+		result.add("phases", phaseResults);
+
+		JsonObject subsystemResults = new JsonObject();
+		for (int i = 0; i < this.subsystems.length; i++) {
+			subsystemResults.add(this.subsystems[i].label(), summarize(Arrays.copyOf(this.subsystemSamples[i], this.count)));
+		}
+		result.add("subsystems", subsystemResults);
+
+		synchronized (SCENARIOS) {
+			SCENARIOS.put(this.scenario, result);
+			write();
+		}
+	}
+
+	private static JsonObject summarize(long[] values) {
+		Arrays.sort(values);
+		JsonObject summary = new JsonObject();
+		summary.addProperty("samples", values.length);
+		if (values.length == 0) {
+			return summary;
+		}
+
+		long total = 0L;
+		for (long value : values) {
+			total += value;
+		}
+		summary.addProperty("meanNanos", total / values.length);
+		summary.addProperty("p50Nanos", values[(values.length - 1) / 2]);
+		summary.addProperty("p99Nanos", values[(int) ((values.length - 1) * 0.99)]);
+		summary.addProperty("maxNanos", values[values.length - 1]);
+
+		// Bucket b holds samples below 2^b ns (bucket 0 holds zero-time ticks)
+		int[] buckets = new int[64];
+		for (long value : values) {
+			buckets[64 - Long.numberOfLeadingZeros(value)]++;
+		}
+		JsonArray histogram = new JsonArray();
+		for (int bucket = 0; bucket < buckets.length; bucket++) {
+			if (buckets[bucket] == 0) continue;
+			JsonObject row = new JsonObject();
+			row.addProperty("belowNanos", 1L << bucket);
+			row.addProperty("count", buckets[bucket]);
+			histogram.add(row);
+		}
+		summary.add("histogram", histogram);
+		return summary;
+	}
+
+	private static void write() {
+		JsonObject report = new JsonObject();
+		JsonObject scenarios = new JsonObject();
+		SCENARIOS.forEach(scenarios::add);
+		report.add("scenarios", scenarios);
+
+		Path path = Path.of(System.getProperty(REPORT_PROPERTY, "gametest-perf.json"));
+		try {
+			Files.createDirectories(path.toAbsolutePath().getParent());
+			Files.writeString(path, GSON.toJson(report));
+		} catch (IOException e) {
+			LOGGER.error("Failed to write performance report {}", path, e);
+		}
+	}
+}
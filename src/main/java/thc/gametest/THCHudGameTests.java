@@ -0,0 +1,61 @@
+package thc.gametest;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.fabricmc.fabric.api.gametest.v1.GameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.GameType;
+import thc.buckler.BucklerState;
+import thc.item.THCBucklers;
+import thc.network.HudBundle;
+
+public class THCHudGameTests {
+	private static final int PLAYERS = 3;
+	private static final int TICKS = 20;
+
+	@GameTest(maxTicks = 40)
+	public void hudSendsAtMostOnePacketPerPlayerTick(GameTestHelper helper) {
+		// Several players so one player's sections are staged while another's are pending,
+		// and regenerating bucklers so the buckler section changes alongside the others
+		List<ServerPlayer> players = new ArrayList<>(PLAYERS);
+		long[] lastSent = new long[PLAYERS];
+		for (int i = 0; i < PLAYERS; i++) {
+			ServerPlayer player = spawnPlayer(helper, i);
+			BucklerState.setMaxPoise(player, 4.0D);
+			BucklerState.setPoise(player, 0.0D);
+			players.add(player);
+			lastSent[i] = HudBundle.packetsSent(player);
+		}
+
+		int[] tick = {0};
+		helper.onEachTick(() -> {
+			if (tick[0] >= TICKS) return;
+			for (int i = 0; i < PLAYERS; i++) {
+				long sent = HudBundle.packetsSent(players.get(i));
+				helper.assertTrue(sent - lastSent[i] <= 1,
+					"Player " + i + " got " + (sent - lastSent[i]) + " HUD packets in one tick");
+				lastSent[i] = sent;
+			}
+			if (++tick[0] == TICKS) {
+				for (ServerPlayer player : players) {
+					HudBundle.clear(player);
+					helper.getLevel().getServer().getPlayerList().remove(player);
+				}
+				helper.succeed();
+			}
+		});
+	}
+
+	private static ServerPlayer spawnPlayer(GameTestHelper helper, int index) {
+		ServerPlayer player = helper.makeMockServerPlayerInLevel();
+		BlockPos pos = helper.absolutePos(new BlockPos(1 + index, 2, 1));
+		player.teleportTo(pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D);
+		player.setGameMode(GameType.SURVIVAL);
+		player.setItemSlot(EquipmentSlot.OFFHAND, new ItemStack(THCBucklers.STONE_BUCKLER));
+		return player;
+	}
+}
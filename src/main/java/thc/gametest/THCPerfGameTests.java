@@ -0,0 +1,195 @@
+package thc.gametest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.fabricmc.fabric.api.gametest.v1.GameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.Vec3;
+import thc.claim.ClaimManager;
+import thc.downed.DownedState;
+import thc.network.HudBundle;
+
+/**
+ * Load scenarios for measuring per-subsystem tick cost. They are manual-only, so the regular
+ * gametest run skips them; the perfGametest run selects them explicitly.
+ *
+ * <p>Each scenario has its own test environment, so it runs in its own batch with nothing
+ * else sharing the (global) player tick pipeline it samples. It packs fake players and
+ * zombies into the arena and, for a fixed number of ticks, drives combat, mining, downing
+ * and revival while {@link PerfRecorder} samples the player tick pipeline and the
+ * subsystems that run outside it. Sizes come from {@code thc.perf.players} (default 50),
+ * {@code thc.perf.mobs} (default 200) and {@code thc.perf.ticks} (default 400, at most 1100).
+ */
+public class THCPerfGameTests {
+	private static final int PLAYERS = Integer.getInteger("thc.perf.players", 50);
+	private static final int MOBS = Integer.getInteger("thc.perf.mobs", 200);
+	private static final int TICKS = Math.min(Integer.getInteger("thc.perf.ticks", 400), 1100);
+
+	private static final int ATTACK_INTERVAL = 10;
+	private static final int MINE_INTERVAL = 5;
+	private static final int DOWN_INTERVAL = 100;
+	private static final int MINE_ROW_Y = 4;
+
+	@GameTest(environment = "thc:perf_raid_unclaimed", maxTicks = 1200, manualOnly = true, required = false)
+	public void raidUnclaimed(GameTestHelper helper) {
+		new Raid(helper, "raidUnclaimed", false).start();
+	}
+
+	@GameTest(environment = "thc:perf_raid_in_base", maxTicks = 1200, manualOnly = true, required = false)
+	public void raidInBase(GameTestHelper helper) {
+		new Raid(helper, "raidInBase", true).start();
+	}
+
+	private static final class Raid {
+		final GameTestHelper helper;
+		final String scenario;
+		final boolean claimed;
+		final List<ServerPlayer> players = new ArrayList<>(PLAYERS);
+		final List<Mob> mobs = new ArrayList<>(MOBS);
+		final List<ChunkPos> claims = new ArrayList<>(4);
+		ServerPlayer downed;
+		int tick;
+
+		Raid(GameTestHelper helper, String scenario, boolean claimed) {
+			this.helper = helper;
+			this.scenario = scenario;
+			this.claimed = claimed;
+		}
+
+		void start() {
+			ServerLevel level = helper.getLevel();
+			if (claimed) {
+				// The 8x8 arena can straddle up to four chunks; the whole arena is base area
+				BlockPos origin = helper.absolutePos(BlockPos.ZERO);
+				for (BlockPos corner : List.of(new BlockPos(0, 0, 0), new BlockPos(7, 0, 0), new BlockPos(0, 0, 7), new BlockPos(7, 0, 7))) {
+					ChunkPos chunk = new ChunkPos(helper.absolutePos(corner));
+					if (ClaimManager.INSTANCE.addClaim(level.getServer(), chunk, origin.getY() - 10)) {
+						claims.add(chunk);
+					}
+				}
+			}
+
+			for (int i = 0; i < PLAYERS; i++) {
+				players.add(spawnPlayer(i));
+			}
+			for (int i = 0; i < MOBS; i++) {
+				mobs.add(spawnMob(i));
+			}
+			for (int x = 0; x < 8; x++) {
+				helper.setBlock(new BlockPos(x, MINE_ROW_Y, 7), Blocks.STONE);
+			}
+
+			PerfRecorder recorder = PerfRecorder.begin(scenario, PLAYERS, MOBS, TICKS);
+			helper.onEachTick(() -> {
+				if (tick >= TICKS) return;
+				recorder.sample();
+				drive();
+				if (++tick == TICKS) {
+					recorder.finish(level.getServer());
+					cleanUp();
+					helper.succeed();
+				}
+			});
+		}
+
+		/**
+		 * One tick of load: staggered attacks, a block mined, and a rolling down/revive cycle.
+		 */
+		void drive() {
+			for (int i = 0; i < players.size(); i++) {
+				ServerPlayer player = players.get(i);
+				if (DownedState.isDowned(player)) continue;
+				// Zombie hits still land and run the damage path, but only scripted downs happen
+				player.setHealth(player.getMaxHealth());
+				if ((tick + i) % ATTACK_INTERVAL != 0) continue;
+				int slot = (tick + i) % mobs.size();
+				Mob target = mobs.get(slot);
+				if (!target.isAlive()) {
+					target = spawnMob(slot);
+					mobs.set(slot, target);
+				}
+				player.attack(target);
+			}
+
+			if (tick % MINE_INTERVAL == 0) {
+				BlockPos rel = new BlockPos((tick / MINE_INTERVAL) % 8, MINE_ROW_Y, 7);
+				ServerPlayer miner = players.get((tick / MINE_INTERVAL) % players.size());
+				if (!DownedState.isDowned(miner)) {
+					miner.gameMode.destroyBlock(helper.absolutePos(rel));
+					helper.setBlock(rel, Blocks.STONE);
+				}
+			}
+
+			if (downed == null && tick % DOWN_INTERVAL == 0) {
+				downed = players.get((tick / DOWN_INTERVAL) % players.size());
+				downed.hurtServer(helper.getLevel(), helper.getLevel().damageSources().genericKill(), Float.MAX_VALUE);
+			}
+			if (downed != null) {
+				revive();
+			}
+		}
+
+		/**
+		 * The downed player's two neighbours crouch on the body until the revival completes.
+		 */
+		void revive() {
+			int index = players.indexOf(downed);
+			ServerPlayer first = players.get((index + 1) % players.size());
+			ServerPlayer second = players.get((index + 2) % players.size());
+			if (!DownedState.isDowned(downed)) {
+				first.setShiftKeyDown(false);
+				second.setShiftKeyDown(false);
+				downed = null;
+				return;
+			}
+			Vec3 body = DownedState.getDownedLocation(downed);
+			for (ServerPlayer reviver : List.of(first, second)) {
+				if (DownedState.isDowned(reviver)) continue;
+				reviver.teleportTo(body.x, body.y, body.z);
+				reviver.setShiftKeyDown(true);
+			}
+		}
+
+		ServerPlayer spawnPlayer(int index) {
+			ServerPlayer player = helper.makeMockServerPlayerInLevel();
+			BlockPos pos = helper.absolutePos(new BlockPos(index % 8, 2, (index / 8) % 7));
+			player.teleportTo(pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D);
+			player.setGameMode(GameType.SURVIVAL);
+			player.getAbilities().invulnerable = false;
+			player.getAbilities().instabuild = false;
+			player.onUpdateAbilities();
+			player.setInvulnerable(false);
+			player.setHealth(20.0F);
+			return player;
+		}
+
+		Mob spawnMob(int index) {
+			return helper.spawn(EntityType.ZOMBIE, new BlockPos(index % 8, 2, (index / 8) % 7));
+		}
+
+		void cleanUp() {
+			for (Mob mob : mobs) {
+				mob.discard();
+			}
+			for (ServerPlayer player : players) {
+				if (DownedState.isDowned(player)) {
+					DownedState.clearDowned(player);
+				}
+				HudBundle.clear(player);
+				helper.getLevel().getServer().getPlayerList().remove(player);
+			}
+			for (ChunkPos chunk : claims) {
+				ClaimManager.INSTANCE.removeClaim(helper.getLevel().getServer(), chunk);
+			}
+		}
+	}
+}
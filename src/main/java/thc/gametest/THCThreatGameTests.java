@@ -0,0 +1,59 @@
+package thc.gametest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.fabricmc.fabric.api.gametest.v1.GameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.GameType;
+import thc.threat.ThreatManager;
+
+public class THCThreatGameTests {
+	private static final int CROWD_SIZE = 200;
+	private static final int HITS = 10;
+
+	@GameTest(maxTicks = 20)
+	public void crowdProximityThreatIsBatched(GameTestHelper helper) {
+		ServerPlayer player = helper.makeMockServerPlayerInLevel();
+		BlockPos center = helper.absolutePos(new BlockPos(4, 2, 4));
+		player.teleportTo(center.getX() + 0.5D, center.getY(), center.getZ() + 0.5D);
+		player.setGameMode(GameType.SURVIVAL);
+
+		// 200 zombies packed into the 8x8 floor, all within 5 blocks of the player
+		List<Mob> crowd = new ArrayList<>(CROWD_SIZE);
+		for (int i = 0; i < CROWD_SIZE; i++) {
+			crowd.add(helper.spawnWithNoFreeWill(EntityType.ZOMBIE, i % 8, 2, (i / 8) % 8));
+		}
+
+		// Several hits land on different mobs in the same tick and are resolved in one batch
+		DamageSource source = helper.getLevel().damageSources().playerAttack(player);
+		List<Mob> struck = crowd.subList(0, HITS);
+		for (Mob mob : struck) {
+			helper.hurt(mob, source, 8.0F);
+		}
+
+		helper.runAfterDelay(1, () -> {
+			// Each bystander gets every hit's ceil(8 / 4) = 2; a struck mob misses its own hit.
+			// Allow one decay step, since the decay bucket of some mobs may run before the check.
+			double bystanderExpected = HITS * 2.0D;
+			for (Mob mob : crowd.subList(HITS, CROWD_SIZE)) {
+				assertThreat(helper, mob, player, bystanderExpected);
+			}
+			for (Mob mob : struck) {
+				assertThreat(helper, mob, player, bystanderExpected - 2.0D);
+			}
+			helper.succeed();
+		});
+	}
+
+	private static void assertThreat(GameTestHelper helper, Mob mob, ServerPlayer player, double expected) {
+		double threat = ThreatManager.getThreat(mob, player);
+		helper.assertTrue(threat <= expected && threat >= expected - 1.0D,
+			"Unexpected proximity threat. expected=" + expected + " got=" + threat);
+	}
+}
@@ -0,0 +1,30 @@
+package thc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted by ClaimManager.isClaimed. High volume; the thc.jfc profile only records
+ * lookups slower than its threshold.
+ */
+@Name("thc.ClaimLookup")
+@Label("Claim Lookup")
+@Category({"THC", "Claims"})
+@Description("Claimed-chunk lookup.")
+@Enabled(false)
+@StackTrace(false)
+public final class ClaimLookupEvent extends Event {
+	@Label("Chunk X")
+	public int chunkX;
+
+	@Label("Chunk Z")
+	public int chunkZ;
+
+	@Label("Claimed")
+	public boolean claimed;
+}
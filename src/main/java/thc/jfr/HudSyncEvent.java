@@ -0,0 +1,29 @@
+package thc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted by HudBundle.flush. The size is measured by re-encoding the payload, only while the event is recorded.
+ */
+@Name("thc.HudSync")
+@Label("HUD Sync")
+@Category({"THC", "Network"})
+@Description("One HUD bundle payload sent to a player.")
+@Enabled(false)
+@StackTrace(false)
+public final class HudSyncEvent extends Event {
+	@Label("Sections")
+	@Description("Dirty section bitmask")
+	public int sections;
+
+	@Label("Size")
+	@DataAmount
+	public int bytes;
+}
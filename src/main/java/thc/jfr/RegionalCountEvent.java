@@ -0,0 +1,30 @@
+package thc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted by RegionalMobCounter.reconcile.
+ */
+@Name("thc.RegionalCountPass")
+@Label("Regional Count Pass")
+@Category({"THC", "Spawning"})
+@Description("Full rescan of counted monsters for the regional caps.")
+@Enabled(false)
+@StackTrace(false)
+public final class RegionalCountEvent extends Event {
+	@Label("Dimension")
+	public String dimension;
+
+	@Label("Counted")
+	public int counted;
+
+	@Label("Drifted")
+	@Description("Whether the rescan disagreed with the incremental counts")
+	public boolean drifted;
+}
@@ -0,0 +1,26 @@
+package thc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted by RevivalTickPhase.endTick while anyone is downed.
+ */
+@Name("thc.Revival")
+@Label("Revival")
+@Category({"THC", "Downed"})
+@Description("Revival completion pass over the downed players.")
+@Enabled(false)
+@StackTrace(false)
+public final class RevivalEvent extends Event {
+	@Label("Downed")
+	public int downed;
+
+	@Label("Revived")
+	public int revived;
+}
@@ -0,0 +1,34 @@
+package thc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted by SpawnReplacementMixin for every natural spawn it intercepts.
+ */
+@Name("thc.SpawnReplacement")
+@Label("Spawn Replacement")
+@Category({"THC", "Spawning"})
+@Description("One natural spawn routed through the regional distribution.")
+@Enabled(false)
+@StackTrace(false)
+public final class SpawnReplacementEvent extends Event {
+	@Label("Region")
+	public String region;
+
+	@Label("Selection")
+	@Description("Entity type id of the custom pack, or vanilla")
+	public String selection;
+
+	@Label("Pack Size")
+	@Description("Custom pack members actually spawned")
+	public int packSize;
+
+	@Label("Cap Rejected")
+	public boolean capRejected;
+}
@@ -0,0 +1,29 @@
+package thc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted by ThreatPropagation.flush when a level has pending hits.
+ */
+@Name("thc.ThreatPropagation")
+@Label("Threat Propagation")
+@Category({"THC", "Threat"})
+@Description("Proximity threat batch for one level, from the tick's player hits.")
+@Enabled(false)
+@StackTrace(false)
+public final class ThreatPropagationEvent extends Event {
+	@Label("Dimension")
+	public String dimension;
+
+	@Label("Attackers")
+	public int attackers;
+
+	@Label("Mobs Updated")
+	public int mobsUpdated;
+}
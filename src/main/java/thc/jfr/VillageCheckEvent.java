@@ -0,0 +1,33 @@
+package thc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted by VillageChunkCache.isVillageChunk.
+ */
+@Name("thc.VillageCheck")
+@Label("Village Check")
+@Category({"THC", "Claims"})
+@Description("Village chunk classification lookup.")
+@Enabled(false)
+@StackTrace(false)
+public final class VillageCheckEvent extends Event {
+	@Label("Chunk X")
+	public int chunkX;
+
+	@Label("Chunk Z")
+	public int chunkZ;
+
+	@Label("Village")
+	public boolean village;
+
+	@Label("Cached")
+	@Description("Answered from the classification cache")
+	public boolean cached;
+}
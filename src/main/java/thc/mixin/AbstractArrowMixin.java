@@ -112,7 +112,7 @@ public abstract class AbstractArrowMixin {
 		if (target instanceof Mob mob) {
 			mob.setTarget(player);
 			// Add +10 bonus threat to struck mob (THREAT-04)
-			ThreatManager.addThreat(mob, player.getUUID(), 10.0);
+			ThreatManager.addThreat(mob, player, 10.0);
 		}
 	}
 
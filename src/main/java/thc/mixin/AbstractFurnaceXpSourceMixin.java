@@ -0,0 +1,18 @@
+package thc.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.world.phys.Vec3;
+import org.spongepowered.asm.mixin.Mixin;
+import thc.xp.XpSource;
+import thc.xp.XpSourceContext;
+
+@Mixin(AbstractFurnaceBlockEntity.class)
+public abstract class AbstractFurnaceXpSourceMixin {
+	@WrapMethod(method = "createExperience")
+	private static void thc$tagXpSource(ServerLevel level, Vec3 pos, int recipeIndex, float experience, Operation<Void> original) {
+		XpSourceContext.call(XpSource.FURNACE, original, level, pos, recipeIndex, experience);
+	}
+}
@@ -0,0 +1,17 @@
+package thc.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.world.entity.npc.villager.AbstractVillager;
+import net.minecraft.world.item.trading.MerchantOffer;
+import org.spongepowered.asm.mixin.Mixin;
+import thc.xp.XpSource;
+import thc.xp.XpSourceContext;
+
+@Mixin(AbstractVillager.class)
+public abstract class AbstractVillagerXpSourceMixin {
+	@WrapMethod(method = "notifyTrade")
+	private void thc$tagXpSource(MerchantOffer offer, Operation<Void> original) {
+		XpSourceContext.call(XpSource.TRADING, original, offer);
+	}
+}
@@ -0,0 +1,19 @@
+package thc.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.AgeableMob;
+import net.minecraft.world.entity.animal.Animal;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import thc.xp.XpSource;
+import thc.xp.XpSourceContext;
+
+@Mixin(Animal.class)
+public abstract class AnimalXpSourceMixin {
+	@WrapMethod(method = "finalizeSpawnChildFromBreeding")
+	private void thc$tagXpSource(ServerLevel level, Animal partner, @Nullable AgeableMob child, Operation<Void> original) {
+		XpSourceContext.call(XpSource.BREEDING, original, level, partner, child);
+	}
+}
@@ -0,0 +1,18 @@
+package thc.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import org.spongepowered.asm.mixin.Mixin;
+import thc.xp.XpSource;
+import thc.xp.XpSourceContext;
+
+@Mixin(Block.class)
+public abstract class BlockXpSourceMixin {
+	@WrapMethod(method = "popExperience")
+	private void thc$tagXpSource(ServerLevel level, BlockPos pos, int amount, Operation<Void> original) {
+		XpSourceContext.call(XpSource.ORE, original, level, pos, amount);
+	}
+}
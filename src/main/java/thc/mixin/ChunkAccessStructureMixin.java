@@ -0,0 +1,29 @@
+package thc.mixin;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import thc.claim.VillageChunkCache;
+import thc.world.VillagePieceIndex;
+
+/**
+ * Invalidates the cached village classification and village piece index of a loaded
+ * chunk whenever its structure starts or references change.
+ */
+@Mixin(ChunkAccess.class)
+public abstract class ChunkAccessStructureMixin {
+	@Inject(
+		method = {"setStartForStructure", "setAllStarts", "addReferenceForStructure", "setAllReferences"},
+		at = @At("HEAD")
+	)
+	private void thc$invalidateVillageCache(CallbackInfo ci) {
+		if ((Object) this instanceof LevelChunk chunk && chunk.getLevel() instanceof ServerLevel level) {
+			VillageChunkCache.invalidate(level, chunk.getPos());
+			VillagePieceIndex.invalidate(level, chunk.getPos());
+		}
+	}
+}
@@ -7,26 +7,24 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import thc.xp.XpSourceContext;
 
 /**
  * Global XP blocking mixin - blocks XP orbs from non-combat sources.
  *
  * <p>THC enforces that XP should only come from combat (killing mobs) or
- * experience bottles. This mixin checks the call stack to determine the
- * source and blocks breeding, fishing, trading, smelting, and ore XP.
+ * experience bottles. Producer mixins (*XpSourceMixin) tag the thread with
+ * their {@link thc.xp.XpSource} while they run; this hook checks the tag's policy for
+ * awarded XP, and {@link ServerLevelXpOrbMixin} does the same for orbs spawned directly.
  *
- * <p>Sources allowed: Mob deaths (LivingEntity.dropExperience), ThrownExperienceBottle
- * Sources blocked: Everything else (breeding, fishing, trading, furnace, ores)
+ * <p>Sources allowed by default: Mob deaths, experience bottles, untagged sources
+ * Sources blocked by default: Breeding, fishing, trading, furnace, ores
  */
 @Mixin(ExperienceOrb.class)
 public abstract class ExperienceOrbXpMixin {
 
     /**
-     * Intercepts ExperienceOrb.award and blocks non-combat XP sources.
-     *
-     * <p>Checks the call stack to determine the XP source. Only allows XP from:
-     * - LivingEntity.dropExperience (mob deaths)
-     * - ThrownExperienceBottle (experience bottles)
+     * Intercepts ExperienceOrb.award and blocks XP from disallowed sources.
      *
      * @param level The server level
      * @param pos The position
@@ -35,55 +33,8 @@ public abstract class ExperienceOrbXpMixin {
      */
     @Inject(method = "award", at = @At("HEAD"), cancellable = true)
     private static void thc$blockNonCombatXp(ServerLevel level, Vec3 pos, int amount, CallbackInfo ci) {
-        // Check call stack to determine XP source
-        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-
-        for (StackTraceElement element : stack) {
-            String className = element.getClassName();
-            String methodName = element.getMethodName();
-
-            // Allow: Mob death XP (dropExperience in LivingEntity or subclasses)
-            if (methodName.contains("dropExperience") || methodName.contains("dropAllDeathLoot")) {
-                return; // Allow
-            }
-
-            // Allow: Experience bottles
-            if (className.contains("ThrownExperienceBottle") || className.contains("ExperienceBottle")) {
-                return; // Allow
-            }
-
-            // Block: Breeding (Animal, finalizeSpawnChildFromBreeding, spawnChildFromBreeding)
-            if (className.contains("Animal") && (methodName.contains("Breed") || methodName.contains("breed"))) {
-                ci.cancel();
-                return;
-            }
-
-            // Block: Fishing (FishingHook, retrieve)
-            if (className.contains("FishingHook") || className.contains("FishingBobber")) {
-                ci.cancel();
-                return;
-            }
-
-            // Block: Trading (AbstractVillager, rewardTradeXp)
-            if ((className.contains("Villager") || className.contains("Merchant")) &&
-                (methodName.contains("Trade") || methodName.contains("trade"))) {
-                ci.cancel();
-                return;
-            }
-
-            // Block: Furnace (AbstractFurnaceBlockEntity, createExperience)
-            if (className.contains("Furnace") && methodName.contains("Experience")) {
-                ci.cancel();
-                return;
-            }
-
-            // Block: Ore mining (Block.popExperience)
-            if (className.contains("Block") && methodName.contains("popExperience")) {
-                ci.cancel();
-                return;
-            }
+        if (!XpSourceContext.current().allowed) {
+            ci.cancel();
         }
-
-        // Default: allow (covers mob deaths and any edge cases)
     }
 }
@@ -0,0 +1,17 @@
+package thc.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.world.entity.projectile.FishingHook;
+import net.minecraft.world.item.ItemStack;
+import org.spongepowered.asm.mixin.Mixin;
+import thc.xp.XpSource;
+import thc.xp.XpSourceContext;
+
+@Mixin(FishingHook.class)
+public abstract class FishingHookXpSourceMixin {
+	@WrapMethod(method = "retrieve")
+	private int thc$tagXpSource(ItemStack rod, Operation<Integer> original) {
+		return XpSourceContext.call(XpSource.FISHING, original, rod);
+	}
+}
@@ -0,0 +1,46 @@
+package thc.mixin;
+
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import thc.access.SurfaceHeightCacheAccess;
+import thc.spawn.SurfaceHeightCache;
+
+/**
+ * Invalidates SurfaceHeightCache entries whenever a chunk's MOTION_BLOCKING heightmap changes.
+ */
+@Mixin(Heightmap.class)
+public abstract class HeightmapSurfaceCacheMixin {
+	@Shadow
+	@Final
+	private ChunkAccess chunk;
+
+	@Shadow
+	@Final
+	private Heightmap.Types type;
+
+	/**
+	 * Single column changed (block placed/broken at or above the old surface).
+	 */
+	@Inject(method = "setHeight", at = @At("HEAD"))
+	private void thc$invalidateColumn(int x, int z, int height, CallbackInfo ci) {
+		if (this.type == Heightmap.Types.MOTION_BLOCKING && this.chunk instanceof SurfaceHeightCacheAccess access) {
+			SurfaceHeightCache.invalidate(access, x, z);
+		}
+	}
+
+	/**
+	 * Whole heightmap replaced.
+	 */
+	@Inject(method = "setRawData", at = @At("HEAD"))
+	private void thc$invalidateChunk(ChunkAccess chunk, Heightmap.Types type, long[] data, CallbackInfo ci) {
+		if (type == Heightmap.Types.MOTION_BLOCKING && chunk instanceof SurfaceHeightCacheAccess access) {
+			SurfaceHeightCache.invalidateAll(access);
+		}
+	}
+}
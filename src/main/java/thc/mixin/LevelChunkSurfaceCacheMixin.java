@@ -0,0 +1,33 @@
+package thc.mixin;
+
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import thc.access.SurfaceHeightCacheAccess;
+
+/**
+ * Stores the lazily allocated surface height cache on each loaded chunk, so the cache is
+ * dropped together with the chunk.
+ */
+@Mixin(LevelChunk.class)
+public abstract class LevelChunkSurfaceCacheMixin implements SurfaceHeightCacheAccess {
+	@Unique
+	private short[] thc$surfaceHeights;
+
+	@Override
+	public short[] thc$getSurfaceHeights() {
+		return this.thc$surfaceHeights;
+	}
+
+	@Override
+	public void thc$setSurfaceHeights(short[] heights) {
+		this.thc$surfaceHeights = heights;
+	}
+
+	@Override
+	public int thc$computeSurfaceY(int x, int z) {
+		// Same as Level.getHeight for a loaded chunk
+		return ((LevelChunk) (Object) this).getHeight(Heightmap.Types.MOTION_BLOCKING, x & 15, z & 15) + 1;
+	}
+}
@@ -215,7 +215,7 @@ public abstract class LivingEntityMixin {
 		// Use same 3-block radius as stunNearby
 		for (Mob mob : level.getEntitiesOfClass(Mob.class, player.getBoundingBox().inflate(3.0D),
 			entity -> entity.getType().getCategory() == MobCategory.MONSTER)) {
-			ThreatManager.addThreat(mob, player.getUUID(), 10.0);
+			ThreatManager.addThreat(mob, player, 10.0);
 		}
 	}
 
@@ -0,0 +1,19 @@
+package thc.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import thc.xp.XpSource;
+import thc.xp.XpSourceContext;
+
+@Mixin(LivingEntity.class)
+public abstract class LivingEntityXpSourceMixin {
+	@WrapMethod(method = "dropExperience")
+	private void thc$tagXpSource(ServerLevel level, @Nullable Entity killer, Operation<Void> original) {
+		XpSourceContext.call(XpSource.MOB_DEATH, original, level, killer);
+	}
+}
@@ -6,18 +6,18 @@ import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
-import net.minecraft.world.entity.MobCategory;
-import net.minecraft.world.phys.AABB;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
-import thc.threat.ThreatManager;
+import thc.threat.ThreatPropagation;
 
 /**
  * Mixin to propagate threat when player deals damage to a mob.
  * Targets LivingEntity.hurtServer and filters for Mob instances.
+ *
+ * <p>Hits are queued and resolved once per attacker at the end of the level tick
+ * by ThreatPropagation.
  */
 @Mixin(LivingEntity.class)
 public abstract class MobDamageThreatMixin {
@@ -46,25 +46,8 @@ public abstract class MobDamageThreatMixin {
 			return;
 		}
 
-		// Calculate proximity threat: ceil(damage / 4)
-		double proximityThreat = Math.ceil(amount / 4.0);
-
-		// Find mobs within 5 blocks of PLAYER (not target)
-		AABB area = player.getBoundingBox().inflate(5.0);
-		for (Mob nearby : level.getEntitiesOfClass(Mob.class, area, MobDamageThreatMixin::thc$isHostileOrNeutral)) {
-			// THRT-02: Skip the direct damage target
-			if (nearby == damagedMob) {
-				continue;
-			}
-			ThreatManager.addThreat(nearby, player.getUUID(), proximityThreat);
-		}
-	}
-
-	@Unique
-	private static boolean thc$isHostileOrNeutral(Mob mob) {
-		MobCategory category = mob.getType().getCategory();
-		return category == MobCategory.MONSTER || category == MobCategory.CREATURE;
-		// Note: CREATURE includes wolves, iron golems which are neutral
-		// MONSTER is hostile mobs
+		// Proximity threat ceil(damage / 4) to mobs within 5 blocks of the PLAYER,
+		// THRT-02: excluding the direct damage target
+		ThreatPropagation.queueHit(level, player, damagedMob, amount);
 	}
 }
@@ -0,0 +1,58 @@
+package thc.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.world.effect.MobEffectInstance;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import thc.access.MobEffectInitialDurationAccess;
+
+/**
+ * Remembers the duration an effect instance was applied with, for the mob status stream's
+ * drain ratio.
+ *
+ * <p>The duration is captured when the instance is created and again whenever
+ * {@code update} replaces it (a stronger or longer application). Copies and hidden effects
+ * restored by {@code setDetailsFrom} carry their source's value. Instances loaded from
+ * saves start from their saved remaining duration.
+ */
+@Mixin(MobEffectInstance.class)
+public abstract class MobEffectInstanceInitialDurationMixin implements MobEffectInitialDurationAccess {
+	@Shadow
+	private int duration;
+
+	@Unique
+	private int thcInitialDuration;
+
+	@Inject(
+		method = "<init>(Lnet/minecraft/core/Holder;IIZZZLnet/minecraft/world/effect/MobEffectInstance;)V",
+		at = @At("RETURN")
+	)
+	private void thc$captureInitialDuration(CallbackInfo ci) {
+		this.thcInitialDuration = this.duration;
+	}
+
+	@Inject(method = "setDetailsFrom", at = @At("RETURN"))
+	private void thc$copyInitialDuration(MobEffectInstance other, CallbackInfo ci) {
+		this.thcInitialDuration = ((MobEffectInitialDurationAccess) other).thc$getInitialDuration();
+	}
+
+	@WrapMethod(method = "update")
+	private boolean thc$resetInitialDuration(MobEffectInstance other, Operation<Boolean> original) {
+		int before = this.duration;
+		boolean changed = original.call(other);
+		if (this.duration != before) {
+			this.thcInitialDuration = this.duration;
+		}
+		return changed;
+	}
+
+	@Override
+	public int thc$getInitialDuration() {
+		return this.thcInitialDuration;
+	}
+}
@@ -17,6 +17,8 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import thc.THCAttachments;
 import thc.enchant.EnchantmentEnforcement;
 import thc.spawn.RegionDetector;
+import thc.spawn.RegionalMobCounter;
+import thc.spawn.SpawnRegion;
 
 @Mixin(Mob.class)
 public class MobFinalizeSpawnMixin {
@@ -39,12 +41,13 @@ public class MobFinalizeSpawnMixin {
 		}
 
 		Mob self = (Mob) (Object) this;
-		String region = RegionDetector.getRegion(serverLevel, self.blockPosition());
+		SpawnRegion region = RegionDetector.getRegion(serverLevel, self.blockPosition());
 		self.setAttached(THCAttachments.SPAWN_REGION, region);
 
 		// Only monsters count toward cap
 		boolean isMonster = self.getType().getCategory() == MobCategory.MONSTER;
 		self.setAttached(THCAttachments.SPAWN_COUNTED, isMonster);
+		RegionalMobCounter.onSpawnTagsChanged(self);
 	}
 
 	/**
@@ -4,7 +4,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.MobCategory;
 import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.NaturalSpawner;
 import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.biome.MobSpawnSettings;
@@ -16,7 +15,6 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import thc.claim.ClaimManager;
-import thc.spawn.RegionalCapManager;
 
 import java.util.List;
 
@@ -24,74 +22,54 @@ import java.util.List;
 public abstract class NaturalSpawnerMixin {
 
 	/**
-	 * Block natural mob spawning in claimed base chunks.
+	 * Skip natural spawning for a claimed base chunk before vanilla does any work.
 	 *
-	 * <p>THC bases are safe zones where mobs should not naturally spawn.
+	 * <p>THC bases are safe zones where mobs should not naturally spawn. Claims cover
+	 * whole chunks, so one bitmap test here replaces a check per spawn attempt.
 	 * This does NOT affect spawners or spawn eggs, only natural spawning.
 	 */
 	@Inject(
-		method = "isValidSpawnPostitionForType",
+		method = "spawnForChunk",
 		at = @At("HEAD"),
 		cancellable = true
 	)
-	private static void thc$blockSpawnInBaseChunks(
-			ServerLevel level,
-			MobCategory category,
-			StructureManager structureManager,
-			ChunkGenerator generator,
-			MobSpawnSettings.SpawnerData spawnerData,
-			BlockPos.MutableBlockPos pos,
-			double squaredDistance,
-			CallbackInfoReturnable<Boolean> cir) {
-
-		// Check if this chunk is claimed
-		ChunkPos chunkPos = new ChunkPos(pos);
-		if (ClaimManager.INSTANCE.isClaimed(level.getServer(), chunkPos)) {
-			cir.setReturnValue(false);
-		}
-	}
-
-	/**
-	 * Initialize regional mob counts at start of spawn cycle.
-	 *
-	 * <p>Counts SPAWN_COUNTED=true monsters grouped by SPAWN_REGION.
-	 * Only runs for Overworld monster spawning to populate ThreadLocal counts
-	 * used by subsequent canSpawnInRegion checks in SpawnReplacementMixin.
-	 */
-	@Inject(
-		method = "spawnForChunk",
-		at = @At("HEAD")
-	)
-	private static void thc$initRegionalCounts(
+	private static void thc$skipClaimedChunks(
 			ServerLevel level,
 			LevelChunk chunk,
 			NaturalSpawner.SpawnState state,
 			List<MobCategory> categories,
 			CallbackInfo ci) {
 
-		// Only count for Overworld when monsters are being spawned
-		if (level.dimension() == Level.OVERWORLD && categories.contains(MobCategory.MONSTER)) {
-			RegionalCapManager.countMobsByRegion(level);
+		ChunkPos chunkPos = chunk.getPos();
+		if (ClaimManager.INSTANCE.isClaimed(level.getServer(), chunkPos.x, chunkPos.z)) {
+			ci.cancel();
 		}
 	}
 
 	/**
-	 * Clear regional counts after spawn cycle completes.
+	 * Block natural spawn positions inside claimed base chunks.
 	 *
-	 * <p>Removes ThreadLocal storage to prevent memory leaks.
-	 * Always clears regardless of dimension to ensure cleanup.
+	 * <p>Only reached for chunks that passed the spawnForChunk check; catches pack
+	 * members that wander from an unclaimed chunk into a neighbouring claimed one.
 	 */
 	@Inject(
-		method = "spawnForChunk",
-		at = @At("RETURN")
+		method = "isValidSpawnPostitionForType",
+		at = @At("HEAD"),
+		cancellable = true
 	)
-	private static void thc$clearRegionalCounts(
+	private static void thc$blockSpawnInBaseChunks(
 			ServerLevel level,
-			LevelChunk chunk,
-			NaturalSpawner.SpawnState state,
-			List<MobCategory> categories,
-			CallbackInfo ci) {
+			MobCategory category,
+			StructureManager structureManager,
+			ChunkGenerator generator,
+			MobSpawnSettings.SpawnerData spawnerData,
+			BlockPos.MutableBlockPos pos,
+			double squaredDistance,
+			CallbackInfoReturnable<Boolean> cir) {
 
-		RegionalCapManager.clearCounts();
+		// Check if this chunk is claimed (coordinates only, no ChunkPos allocation)
+		if (ClaimManager.INSTANCE.isClaimed(level.getServer(), pos.getX() >> 4, pos.getZ() >> 4)) {
+			cir.setReturnValue(false);
+		}
 	}
 }
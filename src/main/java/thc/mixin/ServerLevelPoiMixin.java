@@ -11,6 +11,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import thc.claim.ClaimManager;
 import thc.villager.AllowedProfessions;
+import thc.world.RestrictedBlockIndex;
 
 /**
  * Block POI registration in two scenarios:
@@ -38,6 +39,11 @@ public class ServerLevelPoiMixin {
             CallbackInfo ci) {
 
         ServerLevel self = (ServerLevel) (Object) this;
+
+        // Every block state change passes through here - keep the restricted block index
+        // current before any early return below
+        RestrictedBlockIndex.onBlockStateChange(self, pos, oldState, newState);
+
         ChunkPos chunkPos = new ChunkPos(pos);
 
         // Block POI in claimed chunks, EXCEPT for allowed job blocks
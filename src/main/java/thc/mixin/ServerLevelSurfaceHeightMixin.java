@@ -0,0 +1,17 @@
+package thc.mixin;
+
+import net.minecraft.server.level.ServerLevel;
+import org.spongepowered.asm.mixin.Mixin;
+import thc.access.SurfaceHeightSource;
+import thc.spawn.SurfaceHeightCache;
+
+/**
+ * Exposes the level's cached surface heights to region detection.
+ */
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelSurfaceHeightMixin implements SurfaceHeightSource {
+	@Override
+	public int thc$getSurfaceY(int x, int z) {
+		return SurfaceHeightCache.getSurfaceY((ServerLevel) (Object) this, x, z);
+	}
+}
@@ -0,0 +1,26 @@
+package thc.mixin;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ExperienceOrb;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import thc.xp.XpSourceContext;
+
+/**
+ * Applies the XP source policy to orbs spawned directly with addFreshEntity.
+ *
+ * <p>Breeding, fishing and trading construct their ExperienceOrb themselves instead of
+ * going through {@code ExperienceOrb.award}, so {@link ExperienceOrbXpMixin} never sees them.
+ */
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelXpOrbMixin {
+	@Inject(method = "addFreshEntity", at = @At("HEAD"), cancellable = true)
+	private void thc$blockDisallowedOrb(Entity entity, CallbackInfoReturnable<Boolean> cir) {
+		if (entity instanceof ExperienceOrb && !XpSourceContext.current().allowed) {
+			cir.setReturnValue(false);
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package thc.mixin;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.Entity;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import thc.world.MiningFatigue;
+
+/**
+ * Schedules a mining fatigue decay step whenever fatigue is added or changed, whatever
+ * its source (block breaking, elder guardians, commands).
+ */
+@Mixin(ServerPlayer.class)
+public abstract class ServerPlayerMiningFatigueMixin {
+	@Inject(method = "onEffectAdded", at = @At("TAIL"))
+	private void thc$scheduleFatigueDecayOnAdd(MobEffectInstance effect, @Nullable Entity source, CallbackInfo ci) {
+		if (effect.is(MobEffects.MINING_FATIGUE)) {
+			MiningFatigue.onFatigueChanged((ServerPlayer) (Object) this, effect);
+		}
+	}
+
+	@Inject(method = "onEffectUpdated", at = @At("TAIL"))
+	private void thc$scheduleFatigueDecayOnUpdate(MobEffectInstance effect, boolean doRefreshAttributes, @Nullable Entity source, CallbackInfo ci) {
+		if (effect.is(MobEffects.MINING_FATIGUE)) {
+			MiningFatigue.onFatigueChanged((ServerPlayer) (Object) this, effect);
+		}
+	}
+}
@@ -14,15 +14,19 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import thc.access.ServerPlayerHealthAccess;
+import thc.access.ThreatPlayerIndexAccess;
 
 @Mixin(ServerPlayer.class)
-public abstract class ServerPlayerMixin implements ServerPlayerHealthAccess {
+public abstract class ServerPlayerMixin implements ServerPlayerHealthAccess, ThreatPlayerIndexAccess {
 	@Unique
 	private static final double THC_DEFAULT_MAX_HEALTH = 8.0D;
 
 	@Unique
 	private boolean thcAppliedMaxHealth;
 
+	@Unique
+	private int thcThreatIndex;
+
 	@Inject(method = "restoreFrom", at = @At("TAIL"))
 	private void thc$restoreFrom(ServerPlayer oldPlayer, boolean alive, CallbackInfo ci) {
 		// Use oldPlayer for health bonus since attachment copy may not have completed
@@ -107,4 +111,14 @@ public abstract class ServerPlayerMixin implements ServerPlayerHealthAccess {
 		// Health is now derived from PLAYER_CLASS, so just trigger an update
 		this.thcAppliedMaxHealth = this.thc$applyMaxHealth();
 	}
+
+	@Override
+	public int thc$getThreatIndex() {
+		return this.thcThreatIndex;
+	}
+
+	@Override
+	public void thc$setThreatIndex(int index) {
+		this.thcThreatIndex = index;
+	}
 }
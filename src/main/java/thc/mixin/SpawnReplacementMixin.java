@@ -21,10 +21,12 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
-import thc.spawn.PillagerVariant;
+import thc.jfr.SpawnReplacementEvent;
 import thc.spawn.RegionDetector;
 import thc.spawn.RegionalCapManager;
 import thc.spawn.SpawnDistributions;
+import thc.spawn.SpawnRegion;
+import thc.tick.SubsystemTimings;
 
 /**
  * Replaces natural spawns with regional custom mobs and surface variants.
@@ -81,24 +83,29 @@ public class SpawnReplacementMixin {
 		}
 
 		BlockPos pos = entity.blockPosition();
+		SpawnReplacementEvent event = new SpawnReplacementEvent();
+		event.begin();
+		long start = SubsystemTimings.start();
 
 		// Step 1: Detect region for cap check and distribution
-		String region = RegionDetector.getRegion(level, pos);
+		SpawnRegion region = RegionDetector.getRegion(level, pos);
 
 		// Step 2: Regional cap check - block spawn if cap reached
 		// Per spec: three independent caps, no fallback when cap reached
-		if (region != null && !RegionalCapManager.canSpawnInRegion(region)) {
+		if (region != null && !RegionalCapManager.canSpawnInRegion(level, pos, region)) {
 			// Regional cap reached - do not spawn this entity
+			thc$commitSpawnEvent(event, start, region, null, 0, true);
 			return;
 		}
 
 		// Step 3: Regional distribution roll (Overworld only)
 		if (region != null) {
-			SpawnDistributions.MobSelection selection = SpawnDistributions.selectMob(region, level.random);
+			SpawnDistributions.MobSelection selection = SpawnDistributions.selectMob(level, region, level.random);
 
 			if (!selection.isVanilla()) {
 				// Custom mob selected - spawn pack and skip vanilla entity
-				thc$spawnCustomPack(level, selection, pos);
+				int spawned = thc$spawnCustomPack(level, selection, pos);
+				thc$commitSpawnEvent(event, start, region, selection.type(), spawned, false);
 				// Don't spawn the vanilla entity - custom pack replaces it
 				return;
 			}
@@ -107,6 +114,20 @@ public class SpawnReplacementMixin {
 		// Step 4: Vanilla fallback - apply surface variant replacement if applicable
 		Entity entityToSpawn = thc$getReplacementEntity(level, entity, region);
 		level.addFreshEntityWithPassengers(entityToSpawn);
+		thc$commitSpawnEvent(event, start, region, null, 0, false);
+	}
+
+	@Unique
+	private static void thc$commitSpawnEvent(SpawnReplacementEvent event, long start, SpawnRegion region,
+			EntityType<?> selection, int packSize, boolean capRejected) {
+		SubsystemTimings.stop(SubsystemTimings.Subsystem.SPAWN_REPLACEMENT, start);
+		if (event.shouldCommit()) {
+			event.region = region == null ? "none" : region.name();
+			event.selection = selection == null ? "vanilla" : EntityType.getKey(selection).toString();
+			event.packSize = packSize;
+			event.capRejected = capRejected;
+			event.commit();
+		}
 	}
 
 	/**
@@ -118,9 +139,10 @@ public class SpawnReplacementMixin {
 	 * @param level     The server level
 	 * @param selection The mob selection (type and variant)
 	 * @param origin    The origin position for the pack
+	 * @return The number of pack members spawned
 	 */
 	@Unique
-	private static void thc$spawnCustomPack(
+	private static int thc$spawnCustomPack(
 			ServerLevel level,
 			SpawnDistributions.MobSelection selection,
 			BlockPos origin) {
@@ -132,6 +154,7 @@ public class SpawnReplacementMixin {
 		SpawnGroupData groupData = null;
 
 		BlockPos currentPos = origin;
+		int spawned = 0;
 
 		for (int i = 0; i < packSize; i++) {
 			// First mob uses origin; additional pack members offset from PREVIOUS position
@@ -175,12 +198,14 @@ public class SpawnReplacementMixin {
 
 			// Apply variant equipment AFTER finalizeSpawn (so it's not overwritten)
 			if (selection.variant() != null && mob instanceof Pillager pillager) {
-				PillagerVariant.valueOf(selection.variant()).applyEquipment(pillager);
+				selection.variant().applyEquipment(pillager);
 			}
 
 			// Add to world
 			level.addFreshEntityWithPassengers(mob);
+			spawned++;
 		}
+		return spawned;
 	}
 
 	/**
@@ -193,9 +218,9 @@ public class SpawnReplacementMixin {
 	 * @return The replacement entity, or the original if no replacement needed
 	 */
 	@Unique
-	private static Entity thc$getReplacementEntity(ServerLevel level, Entity entity, String region) {
+	private static Entity thc$getReplacementEntity(ServerLevel level, Entity entity, SpawnRegion region) {
 		// Only replace if surface region
-		if (!"OW_SURFACE".equals(region)) {
+		if (region != SpawnRegion.OW_SURFACE) {
 			return entity;
 		}
 
@@ -0,0 +1,17 @@
+package thc.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import net.minecraft.world.entity.projectile.throwableitemprojectile.ThrownExperienceBottle;
+import net.minecraft.world.phys.HitResult;
+import org.spongepowered.asm.mixin.Mixin;
+import thc.xp.XpSource;
+import thc.xp.XpSourceContext;
+
+@Mixin(ThrownExperienceBottle.class)
+public abstract class ThrownExperienceBottleXpSourceMixin {
+	@WrapMethod(method = "onHit")
+	private void thc$tagXpSource(HitResult hitResult, Operation<Void> original) {
+		XpSourceContext.call(XpSource.EXPERIENCE_BOTTLE, original, hitResult);
+	}
+}
@@ -1,154 +1,190 @@
 package thc.network;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.phys.Vec3;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import thc.downed.DownedState;
+import thc.downed.DownedSpatialIndex;
+import thc.tick.PlayerTickContext;
+import thc.trace.THCTrace;
+import thc.trace.TraceChannel;
 
 /**
- * Broadcasts downed player locations to all clients for body rendering.
- * Sends list of all downed players within 50 blocks to each client.
- * Uses delta sync - only sends when list changes.
+ * Broadcasts downed player locations to clients for body and beacon beam rendering,
+ * with interest management by distance.
+ *
+ * <ul>
+ *   <li>Near (within 50 blocks): position and yaw, checked every tick</li>
+ *   <li>Mid (within 256 blocks): position, every 10 ticks</li>
+ *   <li>Far (rest of the level, for the beacon beam): position, every 40 ticks</li>
+ * </ul>
+ *
+ * <p>Mid and far updates carry yaw too in a session's first packet, since bodies render
+ * beyond the near range.
+ *
+ * <p>Bodies are keyed by their downed session id. A viewer receives a body's UUID and
+ * name once, when it first learns of the session; after that only changed positions
+ * are sent, and a removal when the session ends or leaves the viewer's level. Mid and
+ * far passes are staggered by entity id so viewers do not all scan on the same tick.
  */
 public final class DownedPlayersSync {
-    private static final Logger LOGGER = LoggerFactory.getLogger("thc.DownedPlayersSync");
-    private static final double SYNC_RANGE_SQ = 50.0 * 50.0;  // 50 blocks squared
-    private static final Map<UUID, List<DownedPlayersPayload.DownedPlayerEntry>> LAST_SENT = new HashMap<>();
-    private static int debugTick = 0;
+    private static final double NEAR_RANGE = 50.0;
+    private static final double MID_RANGE_SQ = 256.0 * 256.0;
+    private static final double NEAR_RANGE_SQ = NEAR_RANGE * NEAR_RANGE;
+    private static final int MID_INTERVAL = 10;
+    private static final int FAR_INTERVAL = 40;
 
     private DownedPlayersSync() {}
 
     /**
      * Sync downed player locations to a client.
      */
-    public static void sync(ServerPlayer player, Iterable<ServerPlayer> allPlayers) {
-        debugTick++;
-        boolean shouldLog = (debugTick % 100 == 0);  // Log every 5 seconds
-
-        if (shouldLog) {
-            LOGGER.info("[SYNC] Syncing to player: {}", player.getName().getString());
+    public static void sync(PlayerTickContext context) {
+        ServerPlayer player = context.player();
+        View view = HudBundle.downedView(player);
+        if (!context.anyDowned() && view.known.isEmpty()) {
+            return;
         }
 
-        List<DownedPlayersPayload.DownedPlayerEntry> entries = buildEntryList(player, allPlayers, shouldLog);
+        DeltaBuilder delta = new DeltaBuilder();
+        dropEndedSessions(player, view, delta);
 
-        if (shouldLog) {
-            LOGGER.info("[SYNC] Found {} downed players for {}", entries.size(), player.getName().getString());
+        // Near tier: every tick, through the spatial hash
+        Vec3 viewerPos = player.position();
+        List<DownedSpatialIndex.Entry> near = context.downedNear(viewerPos.x, viewerPos.y, viewerPos.z, NEAR_RANGE);
+        int nearUpdates = 0;
+        for (int i = 0; i < near.size(); i++) {
+            if (offer(view, near.get(i), true, delta)) nearUpdates++;
         }
 
-        sendIfChanged(player, entries, shouldLog);
-    }
-
-    public static void clear(ServerPlayer player) {
-        LAST_SENT.remove(player.getUUID());
-    }
-
-    private static List<DownedPlayersPayload.DownedPlayerEntry> buildEntryList(
-            ServerPlayer viewer, Iterable<ServerPlayer> allPlayers, boolean shouldLog) {
-        Vec3 viewerPos = viewer.position();
-        List<DownedPlayersPayload.DownedPlayerEntry> entries = new ArrayList<>();
-
-        int totalPlayers = 0;
-        int downedCount = 0;
-
-        for (ServerPlayer other : allPlayers) {
-            totalPlayers++;
-
-            boolean isDowned = DownedState.isDowned(other);
-            if (shouldLog) {
-                LOGGER.info("[BUILD] Checking player {} - isDowned={}", other.getName().getString(), isDowned);
+        // Mid and far tiers: staggered full pass over the (small) downed list
+        long phase = context.server().getTickCount() + player.getId();
+        boolean midDue = context.anyDowned() && phase % MID_INTERVAL == 0;
+        boolean farDue = midDue && phase % FAR_INTERVAL == 0;
+        int midUpdates = 0;
+        int farUpdates = 0;
+        if (midDue) {
+            List<DownedSpatialIndex.Entry> all = DownedSpatialIndex.all();
+            for (int i = 0; i < all.size(); i++) {
+                DownedSpatialIndex.Entry entry = all.get(i);
+                if (!entry.isStillDowned() || entry.player().level() != player.level()) continue;
+                double distSq = viewerPos.distanceToSqr(entry.location());
+                if (distSq <= NEAR_RANGE_SQ) continue;  // Handled by the near tier
+                boolean far = distSq > MID_RANGE_SQ;
+                if (far && !farDue && view.known.containsKey(entry.sessionId())) continue;
+                if (offer(view, entry, false, delta)) {
+                    if (far) farUpdates++;
+                    else midUpdates++;
+                }
             }
+        }
 
-            if (!isDowned) continue;
-            downedCount++;
-
-            // TODO: Remove this debug - temporarily showing own body for testing
-            // if (other.getUUID().equals(viewer.getUUID())) {
-            //     if (shouldLog) LOGGER.info("[BUILD] Skipping self");
-            //     continue;
-            // }
-
-            Vec3 downedLoc = DownedState.getDownedLocation(other);
-            if (shouldLog) {
-                LOGGER.info("[BUILD] Downed location for {}: {}", other.getName().getString(), downedLoc);
+        if (!delta.isEmpty()) {
+            if (TraceChannel.SYNC.enabled) {
+                THCTrace.record(TraceChannel.SYNC,
+                    "downed -> {}: intros {} removed {} updates near {} mid {} far {} (mid pass {}, far pass {})",
+                    player.getName().getString(), delta.intros.size(), delta.removed,
+                    nearUpdates, midUpdates, farUpdates, midDue, farDue);
             }
-            if (downedLoc == null) continue;
+            HudBundle.stageDowned(player, delta.build());
+        }
+    }
 
-            // Check if within sync range
-            double distSq = viewerPos.distanceToSqr(downedLoc);
-            if (shouldLog) {
-                LOGGER.info("[BUILD] Distance^2 from viewer: {} (max: {})", distSq, SYNC_RANGE_SQ);
-            }
-            if (distSq > SYNC_RANGE_SQ) continue;
-
-            entries.add(new DownedPlayersPayload.DownedPlayerEntry(
-                other.getUUID(),
-                downedLoc.x,
-                downedLoc.y,
-                downedLoc.z,
-                other.getYRot(),
-                other.getName().getString()
-            ));
-            if (shouldLog) {
-                LOGGER.info("[BUILD] Added entry for {} at ({}, {}, {})",
-                    other.getName().getString(), downedLoc.x, downedLoc.y, downedLoc.z);
+    private static void dropEndedSessions(ServerPlayer viewer, View view, DeltaBuilder delta) {
+        ObjectIterator<Int2ObjectMap.Entry<Known>> iterator = view.known.int2ObjectEntrySet().iterator();
+        while (iterator.hasNext()) {
+            Int2ObjectMap.Entry<Known> known = iterator.next();
+            DownedSpatialIndex.Entry entry = DownedSpatialIndex.session(known.getIntKey());
+            if (entry == null
+                    || !entry.player().getUUID().equals(known.getValue().uuid)
+                    || entry.player().level() != viewer.level()) {
+                iterator.remove();
+                delta.removed.add(known.getIntKey());
             }
         }
+    }
 
-        if (shouldLog) {
-            LOGGER.info("[BUILD] Total players: {}, downed: {}, entries: {}",
-                totalPlayers, downedCount, entries.size());
+    /**
+     * @return whether an update was added for the body
+     */
+    private static boolean offer(View view, DownedSpatialIndex.Entry entry, boolean near, DeltaBuilder delta) {
+        int sessionId = entry.sessionId();
+        ServerPlayer downed = entry.player();
+        if (!view.known.containsKey(sessionId)) {
+            delta.intros.add(new HudStatePayload.DownedIntro(sessionId, downed.getUUID(), downed.getName().getString()));
         }
-
-        return entries;
+        Vec3 location = entry.location();
+        HudStatePayload.DownedUpdate update = view.diff(
+            sessionId, downed.getUUID(), location.x, location.y, location.z, downed.getYRot(), near);
+        if (update == null) return false;
+        delta.updates.add(update);
+        return true;
     }
 
-    private static void sendIfChanged(ServerPlayer player, List<DownedPlayersPayload.DownedPlayerEntry> current, boolean shouldLog) {
-        List<DownedPlayersPayload.DownedPlayerEntry> previous = LAST_SENT.get(player.getUUID());
-        boolean areEqual = entriesEqual(current, previous);
+    /**
+     * Per-viewer record of known downed sessions, owned by {@link HudBundle}.
+     */
+    static final class View {
+        final Int2ObjectOpenHashMap<Known> known = new Int2ObjectOpenHashMap<>();
+
+        /**
+         * Diffs a body's current state against what this viewer knows, recording it as
+         * known. The first call for a session starts its record.
+         *
+         * @return the update to send, or null if the viewer is already current
+         */
+        HudStatePayload.DownedUpdate diff(int sessionId, UUID uuid, double x, double y, double z, float yaw, boolean near) {
+            Known known = this.known.get(sessionId);
+            if (known == null) {
+                known = new Known(uuid);
+                this.known.put(sessionId, known);
+            }
 
-        if (shouldLog) {
-            LOGGER.info("[SEND] Previous entries: {}, current: {}, equal: {}",
-                previous == null ? "null" : previous.size(), current.size(), areEqual);
+            // Yaw follows the spectator camera, so it rides along rather than triggering a resend;
+            // it is sent with the session's first update and again when the body enters the near tier
+            boolean needsYaw = !known.hasYaw || (near && !known.hasNearYaw);
+            HudStatePayload.DownedUpdate update = HudStatePayload.DownedUpdate.of(sessionId, x, y, z, near || needsYaw, yaw);
+            boolean moved = update.xQ() != known.xQ || update.yQ() != known.yQ || update.zQ() != known.zQ;
+            if (!moved && !needsYaw) return null;
+
+            known.xQ = update.xQ();
+            known.yQ = update.yQ();
+            known.zQ = update.zQ();
+            known.hasYaw = true;
+            known.hasNearYaw |= near;
+            return update;
         }
+    }
 
-        if (areEqual) {
-            return;
-        }
-        LAST_SENT.put(player.getUUID(), new ArrayList<>(current));
-
-        if (current.isEmpty()) {
-            if (shouldLog) LOGGER.info("[SEND] Sending EMPTY payload to {}", player.getName().getString());
-            ServerPlayNetworking.send(player, DownedPlayersPayload.EMPTY);
-        } else {
-            if (shouldLog) LOGGER.info("[SEND] Sending payload with {} entries to {}",
-                current.size(), player.getName().getString());
-            ServerPlayNetworking.send(player, new DownedPlayersPayload(current));
+    private static final class Known {
+        final UUID uuid;
+        int xQ = Integer.MIN_VALUE;
+        int yQ = Integer.MIN_VALUE;
+        int zQ = Integer.MIN_VALUE;
+        boolean hasYaw;
+        boolean hasNearYaw;
+
+        Known(UUID uuid) {
+            this.uuid = uuid;
         }
     }
 
-    private static boolean entriesEqual(
-            List<DownedPlayersPayload.DownedPlayerEntry> a,
-            List<DownedPlayersPayload.DownedPlayerEntry> b) {
-        if (a == null && b == null) return true;
-        if (a == null || b == null) return false;
-        if (a.size() != b.size()) return false;
-
-        for (int i = 0; i < a.size(); i++) {
-            DownedPlayersPayload.DownedPlayerEntry ea = a.get(i);
-            DownedPlayersPayload.DownedPlayerEntry eb = b.get(i);
-            if (!ea.uuid().equals(eb.uuid())) return false;
-            // Location comparison with small epsilon for floating point
-            if (Math.abs(ea.x() - eb.x()) > 0.01) return false;
-            if (Math.abs(ea.y() - eb.y()) > 0.01) return false;
-            if (Math.abs(ea.z() - eb.z()) > 0.01) return false;
+    private static final class DeltaBuilder {
+        final List<HudStatePayload.DownedIntro> intros = new ArrayList<>();
+        final IntArrayList removed = new IntArrayList();
+        final List<HudStatePayload.DownedUpdate> updates = new ArrayList<>();
+
+        boolean isEmpty() {
+            return intros.isEmpty() && removed.isEmpty() && updates.isEmpty();
+        }
+
+        HudStatePayload.DownedDelta build() {
+            return new HudStatePayload.DownedDelta(intros, removed, updates);
         }
-        return true;
     }
 }
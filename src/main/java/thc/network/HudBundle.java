@@ -0,0 +1,200 @@
+package thc.network;
+
+import io.netty.buffer.Unpooled;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import thc.jfr.HudSyncEvent;
+import thc.trace.THCTrace;
+import thc.trace.TraceChannel;
+
+/**
+ * Coalesces HUD state for a player into one {@link HudStatePayload} per tick.
+ *
+ * <p>BucklerSync, RevivalSync, DownedPlayersSync and MobStatusStream offer their current
+ * (quantized) section state here, all from the player tick pipeline's finishing pass.
+ * A section that equals what the client last received is dropped; otherwise it is staged
+ * and its dirty bit set. {@link #flush} sends whatever is staged for the player as a
+ * single packet, so a player costs at most one HUD packet per tick and this is the one
+ * place to rate-limit HUD traffic.
+ *
+ * <p>Offers are expected to arrive grouped by player, as the finishing pass produces
+ * them; an offer for a different player flushes the previous player first. Staging a
+ * section from any earlier pass would split that player's tick into two packets.
+ */
+public final class HudBundle {
+	private static final Map<UUID, LastSent> LAST_SENT = new HashMap<>();
+
+	private static ServerPlayer pendingPlayer;
+	private static LastSent pendingLast;
+	private static int dirty;
+	private static HudStatePayload.Buckler buckler;
+	private static HudStatePayload.Revival revival;
+	private static HudStatePayload.DownedDelta downed;
+	private static MobStatusDelta mobs;
+
+	private HudBundle() {
+	}
+
+	static void offerBuckler(ServerPlayer player, HudStatePayload.Buckler state) {
+		if (!select(player).recordBuckler(state)) return;
+		buckler = state;
+		dirty |= HudStatePayload.BUCKLER;
+	}
+
+	static void offerRevival(ServerPlayer player, HudStatePayload.Revival state) {
+		if (!select(player).recordRevival(state)) return;
+		revival = state;
+		dirty |= HudStatePayload.REVIVAL;
+	}
+
+	/**
+	 * Stages a downed-body delta. Unlike the other sections the caller has already diffed
+	 * against {@link #downedView}, so a non-empty delta is always sent.
+	 */
+	static void stageDowned(ServerPlayer player, HudStatePayload.DownedDelta delta) {
+		select(player);
+		downed = delta;
+		dirty |= HudStatePayload.DOWNED;
+	}
+
+	/**
+	 * Stages a mob status delta, already diffed by {@link MobStatusStream}.
+	 */
+	static void stageMobs(ServerPlayer player, MobStatusDelta delta) {
+		select(player);
+		mobs = delta;
+		dirty |= HudStatePayload.MOBS;
+	}
+
+	/**
+	 * The downed bodies this player's client currently knows about.
+	 */
+	static DownedPlayersSync.View downedView(ServerPlayer player) {
+		return LAST_SENT.computeIfAbsent(player.getUUID(), uuid -> new LastSent()).downedView;
+	}
+
+	/**
+	 * The mob statuses this player's client currently holds.
+	 */
+	static MobStatusStream.View mobView(ServerPlayer player) {
+		return LAST_SENT.computeIfAbsent(player.getUUID(), uuid -> new LastSent()).mobView;
+	}
+
+	/**
+	 * Sends the staged sections for the pending player, if any are dirty.
+	 */
+	public static void flush() {
+		if (pendingPlayer != null && dirty != 0) {
+			if (TraceChannel.SYNC.enabled) {
+				THCTrace.record(TraceChannel.SYNC, "hud -> {}: sections {}",
+					pendingPlayer.getName().getString(), Integer.toBinaryString(dirty));
+			}
+			HudSyncEvent event = new HudSyncEvent();
+			event.begin();
+			HudStatePayload payload = new HudStatePayload(dirty, buckler, revival, downed, mobs);
+			ServerPlayNetworking.send(pendingPlayer, payload);
+			pendingLast.packets++;
+			if (event.shouldCommit()) {
+				event.sections = dirty;
+				event.bytes = encodedSize(pendingPlayer, payload);
+				event.commit();
+			}
+		}
+		pendingPlayer = null;
+		pendingLast = null;
+		dirty = 0;
+		buckler = null;
+		revival = null;
+		downed = null;
+		mobs = null;
+	}
+
+	private static int encodedSize(ServerPlayer player, HudStatePayload payload) {
+		RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), player.registryAccess());
+		try {
+			HudStatePayload.STREAM_CODEC.encode(buf, payload);
+			return buf.readableBytes();
+		} finally {
+			buf.release();
+		}
+	}
+
+	/**
+	 * Forgets what was sent to a disconnecting player.
+	 */
+	public static void clear(ServerPlayer player) {
+		if (pendingPlayer == player) {
+			pendingPlayer = null;
+			pendingLast = null;
+			dirty = 0;
+		}
+		LAST_SENT.remove(player.getUUID());
+	}
+
+	/**
+	 * Players with remembered sent state; should track the online player count.
+	 */
+	public static int trackedPlayerCount() {
+		return LAST_SENT.size();
+	}
+
+	/**
+	 * HUD packets sent to a player since they joined.
+	 */
+	public static long packetsSent(ServerPlayer player) {
+		LastSent last = LAST_SENT.get(player.getUUID());
+		return last == null ? 0L : last.packets;
+	}
+
+	/**
+	 * Mob statuses held across all players' views.
+	 */
+	static int mobViewEntryCount() {
+		int count = 0;
+		for (LastSent last : LAST_SENT.values()) {
+			count += last.mobView.sent.size();
+		}
+		return count;
+	}
+
+	private static LastSent select(ServerPlayer player) {
+		if (pendingPlayer != player) {
+			flush();
+			pendingPlayer = player;
+			pendingLast = LAST_SENT.computeIfAbsent(player.getUUID(), uuid -> new LastSent());
+		}
+		return pendingLast;
+	}
+
+	/**
+	 * Sections the client currently holds. Null until first sent.
+	 */
+	static final class LastSent {
+		HudStatePayload.Buckler buckler;
+		HudStatePayload.Revival revival;
+		final DownedPlayersSync.View downedView = new DownedPlayersSync.View();
+		final MobStatusStream.View mobView = new MobStatusStream.View();
+		long packets;
+
+		/**
+		 * Records {@code state} as sent if it differs from the client's copy.
+		 *
+		 * @return whether the section needs sending
+		 */
+		boolean recordBuckler(HudStatePayload.Buckler state) {
+			if (state.equals(this.buckler)) return false;
+			this.buckler = state;
+			return true;
+		}
+
+		boolean recordRevival(HudStatePayload.Revival state) {
+			if (state.equals(this.revival)) return false;
+			this.revival = state;
+			return true;
+		}
+	}
+}
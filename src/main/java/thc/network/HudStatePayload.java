@@ -0,0 +1,253 @@
+package thc.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+import net.minecraft.util.Mth;
+
+/**
+ * Bundled HUD state for one player, sent at most once per tick by {@link HudBundle}.
+ *
+ * <p>{@code dirty} is a bitmask of the sections present in this packet; absent sections
+ * are null and the client keeps its previous value. Fields are quantized on the server
+ * before change detection, so sub-resolution jitter neither resends nor costs bytes:
+ * poise in 1/100 hearts as a short, positions in 1/32 blocks as an int, yaw as a byte
+ * angle and revival progress in 1/10000 as a short.
+ *
+ * <p>The downed section is a delta against what the client already knows, keyed by the
+ * body's session id (see {@code DownedSpatialIndex}): UUID and name travel once per
+ * session in an intro, then only positions (and yaw for nearby viewers) follow.
+ *
+ * <p>The mob section is only present when the optional {@link MobStatusStream} is enabled.
+ */
+public record HudStatePayload(int dirty, Buckler buckler, Revival revival, DownedDelta downed, MobStatusDelta mobs)
+	implements CustomPacketPayload {
+	public static final int BUCKLER = 1;
+	public static final int REVIVAL = 1 << 1;
+	public static final int DOWNED = 1 << 2;
+	public static final int MOBS = 1 << 3;
+
+	public static final Type<HudStatePayload> TYPE =
+		new CustomPacketPayload.Type<>(Identifier.fromNamespaceAndPath("thc", "hud_state"));
+	public static final StreamCodec<RegistryFriendlyByteBuf, HudStatePayload> STREAM_CODEC =
+		StreamCodec.ofMember(HudStatePayload::write, HudStatePayload::read);
+
+	private static final double POISE_SCALE = 100.0;
+	private static final double POSITION_SCALE = 32.0;
+	private static final double PROGRESS_SCALE = 10000.0;
+
+	public boolean has(int section) {
+		return (dirty & section) != 0;
+	}
+
+	private static HudStatePayload read(RegistryFriendlyByteBuf buf) {
+		int dirty = buf.readByte();
+		Buckler buckler = null;
+		Revival revival = null;
+		DownedDelta downed = null;
+		if ((dirty & BUCKLER) != 0) {
+			// lastFullTick is written +1 so the -1 "never full" sentinel stays a one-byte varlong
+			buckler = new Buckler(buf.readShort(), buf.readShort(), buf.readBoolean(), buf.readVarLong() - 1L);
+		}
+		if ((dirty & REVIVAL) != 0) {
+			revival = buf.readBoolean()
+				? new Revival(buf.readUUID(), buf.readInt(), buf.readInt(), buf.readInt(), buf.readShort())
+				: Revival.NONE;
+		}
+		if ((dirty & DOWNED) != 0) {
+			downed = DownedDelta.read(buf);
+		}
+		MobStatusDelta mobs = null;
+		if ((dirty & MOBS) != 0) {
+			mobs = MobStatusDelta.read(buf);
+		}
+		return new HudStatePayload(dirty, buckler, revival, downed, mobs);
+	}
+
+	private void write(RegistryFriendlyByteBuf buf) {
+		buf.writeByte(dirty);
+		if (has(BUCKLER)) {
+			buf.writeShort(buckler.poiseQ());
+			buf.writeShort(buckler.maxPoiseQ());
+			buf.writeBoolean(buckler.broken());
+			buf.writeVarLong(buckler.lastFullTick() + 1L);
+		}
+		if (has(REVIVAL)) {
+			boolean hasTarget = revival.hasTarget();
+			buf.writeBoolean(hasTarget);
+			if (hasTarget) {
+				buf.writeUUID(revival.downedUUID());
+				buf.writeInt(revival.xQ());
+				buf.writeInt(revival.yQ());
+				buf.writeInt(revival.zQ());
+				buf.writeShort(revival.progressQ());
+			}
+		}
+		if (has(DOWNED)) {
+			downed.write(buf);
+		}
+		if (has(MOBS)) {
+			mobs.write(buf);
+		}
+	}
+
+	@Override
+	public Type<? extends CustomPacketPayload> type() {
+		return TYPE;
+	}
+
+	static short quantizePoise(double hearts) {
+		return (short) Mth.clamp(Math.round(hearts * POISE_SCALE), Short.MIN_VALUE, Short.MAX_VALUE);
+	}
+
+	static int quantizePosition(double coordinate) {
+		return Mth.floor(coordinate * POSITION_SCALE + 0.5);
+	}
+
+	/**
+	 * Buckler poise section.
+	 */
+	public record Buckler(short poiseQ, short maxPoiseQ, boolean broken, long lastFullTick) {
+		public static Buckler of(double poise, double maxPoise, boolean broken, long lastFullTick) {
+			return new Buckler(quantizePoise(poise), quantizePoise(maxPoise), broken, lastFullTick);
+		}
+
+		public double poise() {
+			return poiseQ / POISE_SCALE;
+		}
+
+		public double maxPoise() {
+			return maxPoiseQ / POISE_SCALE;
+		}
+	}
+
+	/**
+	 * Revival target section. {@link #NONE} clears the client's target.
+	 */
+	public record Revival(UUID downedUUID, int xQ, int yQ, int zQ, short progressQ) {
+		public static final Revival NONE = new Revival(new UUID(0, 0), 0, 0, 0, (short) 0);
+
+		public static Revival of(UUID downedUUID, double x, double y, double z, double progress) {
+			return new Revival(downedUUID, quantizePosition(x), quantizePosition(y), quantizePosition(z),
+				(short) Math.round(Mth.clamp(progress, 0.0, 1.0) * PROGRESS_SCALE));
+		}
+
+		public boolean hasTarget() {
+			return !NONE.downedUUID.equals(downedUUID);
+		}
+
+		public double x() {
+			return xQ / POSITION_SCALE;
+		}
+
+		public double y() {
+			return yQ / POSITION_SCALE;
+		}
+
+		public double z() {
+			return zQ / POSITION_SCALE;
+		}
+
+		public double progress() {
+			return progressQ / PROGRESS_SCALE;
+		}
+	}
+
+	/**
+	 * Changes to the set of downed bodies a client knows about. Clients apply removals,
+	 * then intros, then updates, so a recycled session id can be removed and reintroduced
+	 * in one packet.
+	 */
+	public record DownedDelta(List<DownedIntro> intros, IntList removed, List<DownedUpdate> updates) {
+		public boolean isEmpty() {
+			return intros.isEmpty() && removed.isEmpty() && updates.isEmpty();
+		}
+
+		private static DownedDelta read(RegistryFriendlyByteBuf buf) {
+			int introCount = buf.readVarInt();
+			List<DownedIntro> intros = new ArrayList<>(introCount);
+			for (int i = 0; i < introCount; i++) {
+				intros.add(new DownedIntro(buf.readVarInt(), buf.readUUID(), buf.readUtf()));
+			}
+			int removedCount = buf.readVarInt();
+			IntList removed = new IntArrayList(removedCount);
+			for (int i = 0; i < removedCount; i++) {
+				removed.add(buf.readVarInt());
+			}
+			int updateCount = buf.readVarInt();
+			List<DownedUpdate> updates = new ArrayList<>(updateCount);
+			for (int i = 0; i < updateCount; i++) {
+				// Low bit of the header flags a trailing yaw byte (nearby viewers only)
+				int header = buf.readVarInt();
+				int sessionId = header >>> 1;
+				int x = buf.readInt();
+				int y = buf.readInt();
+				int z = buf.readInt();
+				boolean hasYaw = (header & 1) != 0;
+				updates.add(new DownedUpdate(sessionId, x, y, z, hasYaw, hasYaw ? buf.readByte() : 0));
+			}
+			return new DownedDelta(intros, removed, updates);
+		}
+
+		private void write(RegistryFriendlyByteBuf buf) {
+			buf.writeVarInt(intros.size());
+			for (DownedIntro intro : intros) {
+				buf.writeVarInt(intro.sessionId());
+				buf.writeUUID(intro.uuid());
+				buf.writeUtf(intro.name());
+			}
+			buf.writeVarInt(removed.size());
+			for (int i = 0; i < removed.size(); i++) {
+				buf.writeVarInt(removed.getInt(i));
+			}
+			buf.writeVarInt(updates.size());
+			for (DownedUpdate update : updates) {
+				buf.writeVarInt(update.sessionId() << 1 | (update.hasYaw() ? 1 : 0));
+				buf.writeInt(update.xQ());
+				buf.writeInt(update.yQ());
+				buf.writeInt(update.zQ());
+				if (update.hasYaw()) {
+					buf.writeByte(update.yawQ());
+				}
+			}
+		}
+	}
+
+	/**
+	 * First sight of a downed body for a client: who it is, sent once per session.
+	 */
+	public record DownedIntro(int sessionId, UUID uuid, String name) {
+	}
+
+	/**
+	 * Position of a known downed body, with yaw only for nearby viewers.
+	 */
+	public record DownedUpdate(int sessionId, int xQ, int yQ, int zQ, boolean hasYaw, byte yawQ) {
+		public static DownedUpdate of(int sessionId, double x, double y, double z, boolean hasYaw, float yaw) {
+			return new DownedUpdate(sessionId, quantizePosition(x), quantizePosition(y), quantizePosition(z),
+				hasYaw, hasYaw ? Mth.packDegrees(yaw) : 0);
+		}
+
+		public double x() {
+			return xQ / POSITION_SCALE;
+		}
+
+		public double y() {
+			return yQ / POSITION_SCALE;
+		}
+
+		public double z() {
+			return zQ / POSITION_SCALE;
+		}
+
+		public float yaw() {
+			return Mth.unpackDegrees(yawQ);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package thc.network;
+
+import thc.tick.PlayerTickContext;
+import thc.tick.PlayerTickPhase;
+
+/**
+ * Player tick phase that syncs revival HUD state and downed body locations to the
+ * client, then flushes the player's HUD bundle (including the buckler and mob sections
+ * staged earlier in the same finishing pass) as one packet. Must be the last phase
+ * added. Working in the finishing pass means it sees every reviver's progress and the
+ * revivals completed this tick.
+ */
+public final class HudSyncPhase implements PlayerTickPhase {
+	public static final HudSyncPhase INSTANCE = new HudSyncPhase();
+
+	private HudSyncPhase() {
+	}
+
+	@Override
+	public String name() {
+		return "sync";
+	}
+
+	@Override
+	public void tickPlayer(PlayerTickContext context) {
+	}
+
+	@Override
+	public void finishPlayer(PlayerTickContext context) {
+		RevivalSync.sync(context);
+		DownedPlayersSync.sync(context);
+		HudBundle.flush();
+	}
+}
@@ -0,0 +1,90 @@
+package thc.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.core.Holder;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.util.Mth;
+import net.minecraft.world.effect.MobEffect;
+
+/**
+ * Mob health/effect section of {@link HudStatePayload}, produced by {@link MobStatusStream}.
+ *
+ * <p>Carries only mobs whose summary changed since the viewer last heard about them, plus
+ * the ids of mobs that dropped out (healed, effects gone, died or out of range). Health
+ * and absorption are ratios of max health in 1/1000. Effect durations are the remaining
+ * ticks at send time plus the duration the effect started from, so the client can drain
+ * the icon locally between updates.
+ */
+public record MobStatusDelta(List<MobStatus> updates, IntList removed) {
+	private static final float RATIO_SCALE = 1000.0F;
+
+	static MobStatusDelta read(RegistryFriendlyByteBuf buf) {
+		int updateCount = buf.readVarInt();
+		List<MobStatus> updates = new ArrayList<>(updateCount);
+		for (int i = 0; i < updateCount; i++) {
+			int entityId = buf.readVarInt();
+			short health = buf.readShort();
+			short absorption = buf.readShort();
+			int effectCount = buf.readVarInt();
+			List<EffectStatus> effects = new ArrayList<>(effectCount);
+			for (int j = 0; j < effectCount; j++) {
+				effects.add(new EffectStatus(
+					MobEffect.STREAM_CODEC.decode(buf), buf.readByte(), buf.readVarInt(), buf.readVarInt()));
+			}
+			updates.add(new MobStatus(entityId, health, absorption, effects));
+		}
+		int removedCount = buf.readVarInt();
+		IntList removed = new IntArrayList(removedCount);
+		for (int i = 0; i < removedCount; i++) {
+			removed.add(buf.readVarInt());
+		}
+		return new MobStatusDelta(updates, removed);
+	}
+
+	void write(RegistryFriendlyByteBuf buf) {
+		buf.writeVarInt(updates.size());
+		for (MobStatus status : updates) {
+			buf.writeVarInt(status.entityId());
+			buf.writeShort(status.healthQ());
+			buf.writeShort(status.absorptionQ());
+			buf.writeVarInt(status.effects().size());
+			for (EffectStatus effect : status.effects()) {
+				MobEffect.STREAM_CODEC.encode(buf, effect.effect());
+				buf.writeByte(effect.amplifier());
+				buf.writeVarInt(effect.remaining());
+				buf.writeVarInt(effect.original());
+			}
+		}
+		buf.writeVarInt(removed.size());
+		for (int i = 0; i < removed.size(); i++) {
+			buf.writeVarInt(removed.getInt(i));
+		}
+	}
+
+	static short quantizeRatio(float value, float max) {
+		if (max <= 0.0F) return 0;
+		return (short) Math.round(Mth.clamp(value / max, 0.0F, 1.0F) * RATIO_SCALE);
+	}
+
+	/**
+	 * Summary of one damaged or affected mob.
+	 */
+	public record MobStatus(int entityId, short healthQ, short absorptionQ, List<EffectStatus> effects) {
+		public float healthRatio() {
+			return healthQ / RATIO_SCALE;
+		}
+
+		public float absorptionRatio() {
+			return absorptionQ / RATIO_SCALE;
+		}
+	}
+
+	/**
+	 * One non-infinite effect on a mob.
+	 */
+	public record EffectStatus(Holder<MobEffect> effect, int amplifier, int remaining, int original) {
+	}
+}
@@ -0,0 +1,164 @@
+package thc.network;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.phys.AABB;
+import thc.access.MobEffectInitialDurationAccess;
+import thc.tick.PlayerTickContext;
+import thc.tick.PlayerTickPhase;
+
+/**
+ * Optional server-authoritative health/effect summaries for the client mob health bars.
+ *
+ * <p>Enabled with {@code -Dthc.mobStatusStream=true}. Every {@code thc.mobStatusInterval}
+ * ticks (default 5, staggered by entity id) each player gets the monsters within 32
+ * blocks that are damaged, absorbing or under any effect - the same set the client
+ * would draw bars for - capped to the nearest {@link #MAX_MOBS} mobs. Only mobs whose
+ * summary changed are sent, as a section of the player's HUD bundle. Timed effects carry
+ * the duration they were applied with (see MobEffectInstanceInitialDurationMixin), so the
+ * client drains effect icons without per-frame bookkeeping; infinite effects get no icon,
+ * as in the client's fallback mode.
+ */
+public final class MobStatusStream implements PlayerTickPhase {
+	public static final MobStatusStream INSTANCE = new MobStatusStream();
+
+	public static final boolean ENABLED = Boolean.getBoolean("thc.mobStatusStream");
+	private static final int INTERVAL = Math.max(1, Integer.getInteger("thc.mobStatusInterval", 5));
+	private static final double RANGE = 32.0;
+	private static final double RANGE_SQ = RANGE * RANGE;
+	private static final int MAX_MOBS = 48;
+	/**
+	 * Tolerated difference, in ticks, between a tracked effect's extrapolated and actual
+	 * remaining duration before it is resent.
+	 */
+	private static final int DURATION_SLACK = 2;
+
+	private MobStatusStream() {
+	}
+
+	/**
+	 * Mob statuses held across all players' views; should track the mobs near players.
+	 */
+	public static int trackedMobCount() {
+		return HudBundle.mobViewEntryCount();
+	}
+
+	@Override
+	public String name() {
+		return "mobs";
+	}
+
+	@Override
+	public void tickPlayer(PlayerTickContext context) {
+	}
+
+	/**
+	 * Stages in the finishing pass so the section joins the player's single HUD packet.
+	 */
+	@Override
+	public void finishPlayer(PlayerTickContext context) {
+		ServerPlayer player = context.player();
+		int tick = context.server().getTickCount();
+		View view = HudBundle.mobView(player);
+		if (view.announced && (tick + player.getId()) % INTERVAL != 0) {
+			return;
+		}
+
+		AABB box = player.getBoundingBox().inflate(RANGE);
+		List<Monster> mobs = player.level().getEntities(
+			EntityTypeTest.forClass(Monster.class), box,
+			mob -> mob.isAlive() && !mob.isInvisible() && mob.distanceToSqr(player) <= RANGE_SQ && isWorthShowing(mob));
+		if (mobs.size() > MAX_MOBS) {
+			mobs.sort(Comparator.comparingDouble(mob -> mob.distanceToSqr(player)));
+			mobs = mobs.subList(0, MAX_MOBS);
+		}
+
+		List<MobStatusDelta.MobStatus> updates = new ArrayList<>();
+		IntOpenHashSet present = new IntOpenHashSet(mobs.size());
+		for (Monster mob : mobs) {
+			present.add(mob.getId());
+			MobStatusDelta.MobStatus status = summarize(mob);
+			Sent previous = view.sent.get(mob.getId());
+			if (previous != null && unchanged(previous, status, tick)) continue;
+			view.sent.put(mob.getId(), new Sent(status, tick));
+			updates.add(status);
+		}
+
+		IntArrayList removed = new IntArrayList();
+		var iterator = view.sent.keySet().iterator();
+		while (iterator.hasNext()) {
+			int id = iterator.nextInt();
+			if (!present.contains(id)) {
+				iterator.remove();
+				removed.add(id);
+			}
+		}
+
+		// The first (possibly empty) section tells the client the server is streaming
+		if (!updates.isEmpty() || !removed.isEmpty() || !view.announced) {
+			view.announced = true;
+			HudBundle.stageMobs(player, new MobStatusDelta(updates, removed));
+		}
+	}
+
+	private static boolean isWorthShowing(Monster mob) {
+		return mob.getHealth() < mob.getMaxHealth()
+			|| mob.getAbsorptionAmount() > 0.0F
+			|| !mob.getActiveEffects().isEmpty();
+	}
+
+	private static MobStatusDelta.MobStatus summarize(Monster mob) {
+		float maxHealth = mob.getMaxHealth();
+		List<MobStatusDelta.EffectStatus> effects = new ArrayList<>();
+		for (MobEffectInstance effect : mob.getActiveEffects()) {
+			if (effect.isInfiniteDuration()) continue;
+			int remaining = effect.getDuration();
+			// Guard against a remaining duration above the captured one (e.g. set directly by a command)
+			int original = Math.max(remaining, ((MobEffectInitialDurationAccess) effect).thc$getInitialDuration());
+			effects.add(new MobStatusDelta.EffectStatus(effect.getEffect(), effect.getAmplifier(), remaining, original));
+		}
+		return new MobStatusDelta.MobStatus(
+			mob.getId(),
+			MobStatusDelta.quantizeRatio(mob.getHealth(), maxHealth),
+			MobStatusDelta.quantizeRatio(mob.getAbsorptionAmount(), maxHealth),
+			effects);
+	}
+
+	/**
+	 * Whether the client's copy (drained locally since it was sent) still matches.
+	 */
+	private static boolean unchanged(Sent previous, MobStatusDelta.MobStatus current, int tick) {
+		MobStatusDelta.MobStatus sent = previous.status;
+		if (sent.healthQ() != current.healthQ() || sent.absorptionQ() != current.absorptionQ()) return false;
+		if (sent.effects().size() != current.effects().size()) return false;
+		int elapsed = tick - previous.tick;
+		for (int i = 0; i < current.effects().size(); i++) {
+			MobStatusDelta.EffectStatus a = sent.effects().get(i);
+			MobStatusDelta.EffectStatus b = current.effects().get(i);
+			if (!a.effect().equals(b.effect()) || a.amplifier() != b.amplifier() || a.original() != b.original()) {
+				return false;
+			}
+			if (Math.abs((a.remaining() - elapsed) - b.remaining()) > DURATION_SLACK) return false;
+		}
+		return true;
+	}
+
+	private record Sent(MobStatusDelta.MobStatus status, int tick) {
+	}
+
+	/**
+	 * Per-viewer record of mob statuses the client holds, owned by {@link HudBundle}.
+	 */
+	static final class View {
+		final Int2ObjectOpenHashMap<Sent> sent = new Int2ObjectOpenHashMap<>();
+		boolean announced;
+	}
+}
@@ -1,91 +1,71 @@
 package thc.network;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import java.util.List;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.phys.Vec3;
-import thc.downed.DownedState;
+import thc.downed.DownedSpatialIndex;
 import thc.downed.RevivalState;
+import thc.tick.PlayerTickContext;
 
 /**
  * Syncs revival state to clients for HUD rendering.
- * Only sends updates when state changes (delta sync).
+ * Only sends updates when the quantized state changes, through the HUD bundle.
  */
 public final class RevivalSync {
-    private static final Map<UUID, RevivalSyncState> LAST_SENT = new HashMap<>();
+    private static final double LOOK_RANGE = 2.0;
 
     private RevivalSync() {}
 
     /**
-     * Sync revival state for a potential reviver.
+     * Sync revival state for the context's player as a potential reviver.
      * Finds the closest downed player within 2 blocks that the player is looking at.
      */
-    public static void sync(ServerPlayer player, Iterable<ServerPlayer> allPlayers) {
+    public static void sync(PlayerTickContext context) {
+        ServerPlayer player = context.player();
+
         // Don't sync to downed players
-        if (DownedState.isDowned(player)) {
-            sendIfChanged(player, RevivalSyncState.CLEAR);
+        if (context.isDowned()) {
+            HudBundle.offerRevival(player, HudStatePayload.Revival.NONE);
             return;
         }
 
         // Find closest downed player within 2 blocks that player is looking at
-        RevivalSyncState target = findLookTarget(player, allPlayers);
-        sendIfChanged(player, target);
-    }
-
-    public static void clear(ServerPlayer player) {
-        LAST_SENT.remove(player.getUUID());
-    }
-
-    private static void sendIfChanged(ServerPlayer player, RevivalSyncState current) {
-        RevivalSyncState previous = LAST_SENT.get(player.getUUID());
-        if (current.equals(previous)) {
-            return;
-        }
-        LAST_SENT.put(player.getUUID(), current);
-
-        if (current == RevivalSyncState.CLEAR) {
-            ServerPlayNetworking.send(player, RevivalStatePayload.CLEAR);
-        } else {
-            ServerPlayNetworking.send(player, new RevivalStatePayload(
-                current.downedUUID(),
-                current.downedX(),
-                current.downedY(),
-                current.downedZ(),
-                current.progress()
-            ));
-        }
+        HudStatePayload.Revival target = !context.anyDowned()
+            ? HudStatePayload.Revival.NONE
+            : findLookTarget(player, context);
+        HudBundle.offerRevival(player, target);
     }
 
-    private static RevivalSyncState findLookTarget(ServerPlayer player, Iterable<ServerPlayer> allPlayers) {
+    private static HudStatePayload.Revival findLookTarget(ServerPlayer player, PlayerTickContext context) {
         Vec3 eyePos = player.getEyePosition();
         Vec3 lookVec = player.getLookAngle();
 
-        RevivalSyncState closest = RevivalSyncState.CLEAR;
+        HudStatePayload.Revival closest = HudStatePayload.Revival.NONE;
         double closestDistSq = Double.MAX_VALUE;
 
-        for (ServerPlayer other : allPlayers) {
-            if (!DownedState.isDowned(other)) continue;
+        // Only downed players within 2 blocks of the eyes
+        List<DownedSpatialIndex.Entry> inRange = context.downedNear(eyePos.x, eyePos.y, eyePos.z, LOOK_RANGE);
+        for (int i = 0; i < inRange.size(); i++) {
+            DownedSpatialIndex.Entry entry = inRange.get(i);
+            Vec3 downedLoc = entry.location();
 
-            Vec3 downedLoc = DownedState.getDownedLocation(other);
-            if (downedLoc == null) continue;
-
-            // Check if within 2 blocks (squared distance = 4.0)
-            double distSq = eyePos.distanceToSqr(downedLoc);
-            if (distSq > 4.0) continue;
+            double dx = downedLoc.x - eyePos.x;
+            double dy = downedLoc.y - eyePos.y;
+            double dz = downedLoc.z - eyePos.z;
+            double distSq = dx * dx + dy * dy + dz * dz;
 
             // Check if player is roughly looking at the downed location
-            // Use a generous cone (60 degree half-angle = cos(60) = 0.5)
-            Vec3 toTarget = downedLoc.subtract(eyePos).normalize();
-            double dot = lookVec.dot(toTarget);
-            if (dot < 0.5) continue;  // Not looking toward target
+            // Use a generous cone (60 degree half-angle = cos(60) = 0.5).
+            // Compared against the unnormalized offset so no normalized vector is allocated per pair.
+            double dot = lookVec.x * dx + lookVec.y * dy + lookVec.z * dz;
+            if (dot < 0.5 * Math.sqrt(distSq)) continue;  // Not looking toward target
 
             // Track closest valid target
             if (distSq < closestDistSq) {
                 closestDistSq = distSq;
+                ServerPlayer other = entry.player();
                 double progress = RevivalState.getProgress(other);
-                closest = new RevivalSyncState(
+                closest = HudStatePayload.Revival.of(
                     other.getUUID(),
                     downedLoc.x,
                     downedLoc.y,
@@ -97,8 +77,4 @@ public final class RevivalSync {
 
         return closest;
     }
-
-    private record RevivalSyncState(UUID downedUUID, double downedX, double downedY, double downedZ, double progress) {
-        static final RevivalSyncState CLEAR = new RevivalSyncState(new UUID(0, 0), 0.0, 0.0, 0.0, 0.0);
-    }
 }
@@ -0,0 +1,139 @@
+package thc.schedule;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+
+import java.util.ArrayList;
+
+/**
+ * Server-tick timer wheel for deferred and periodic work.
+ *
+ * <p>Tasks are hashed into {@link #SLOTS} buckets by deadline tick. Each server tick
+ * only visits the bucket for that tick, so per-tick cost is proportional to the tasks
+ * due around now (plus the rare task more than one wheel rotation out), not to the
+ * number of players or pending timers. Use it instead of polling something every tick
+ * to catch the one tick it changes - effect expiry, cooldown end, periodic per-player
+ * upkeep that only needs to run every N ticks.
+ *
+ * <p>Tasks run at END_SERVER_TICK, after all levels ticked, on the server thread.
+ * A task scheduled with delay {@code d} runs at the end of the {@code d}-th tick end
+ * from now (delay 1 = the end of the current tick). Everything is dropped when the
+ * server stops.
+ */
+public final class TickScheduler {
+	/**
+	 * Wheel size. Power of two; larger than the common delays in the mod (a few hundred ticks)
+	 * so most tasks are visited exactly once.
+	 */
+	private static final int SLOTS = 512;
+	private static final int MASK = SLOTS - 1;
+
+	@SuppressWarnings("unchecked")
+	private static final ArrayList<Task>[] WHEEL = new ArrayList[SLOTS];
+
+	/**
+	 * Number of completed scheduler ticks.
+	 */
+	private static long now;
+
+	static {
+		for (int i = 0; i < SLOTS; i++) {
+			WHEEL[i] = new ArrayList<>();
+		}
+	}
+
+	private TickScheduler() {
+	}
+
+	/**
+	 * Registers the wheel advance and shutdown cleanup. Called during mod initialization.
+	 */
+	public static void register() {
+		ServerTickEvents.END_SERVER_TICK.register(server -> advance());
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+			for (ArrayList<Task> slot : WHEEL) {
+				for (Task task : slot) {
+					task.cancelled = true;
+				}
+				slot.clear();
+			}
+		});
+	}
+
+	/**
+	 * Run an action after a number of server ticks.
+	 *
+	 * @param delayTicks Ticks from now, at least 1
+	 * @param action     The action to run on the server thread
+	 * @return A handle that can cancel the task
+	 */
+	public static Task schedule(int delayTicks, Runnable action) {
+		if (delayTicks < 1) {
+			throw new IllegalArgumentException("delayTicks must be >= 1, was " + delayTicks);
+		}
+		Task task = new Task(now + delayTicks, action);
+		WHEEL[(int) (task.deadline & MASK)].add(task);
+		return task;
+	}
+
+	/**
+	 * Number of pending tasks, for diagnostics.
+	 */
+	public static int pendingCount() {
+		int count = 0;
+		for (ArrayList<Task> slot : WHEEL) {
+			count += slot.size();
+		}
+		return count;
+	}
+
+	private static void advance() {
+		long tick = ++now;
+		ArrayList<Task> slot = WHEEL[(int) (tick & MASK)];
+		int i = 0;
+		while (i < slot.size()) {
+			Task task = slot.get(i);
+			if (!task.cancelled && task.deadline > tick) {
+				// Due in a later rotation
+				i++;
+				continue;
+			}
+			// Swap-remove before running so the action may safely schedule into this slot
+			int last = slot.size() - 1;
+			slot.set(i, slot.get(last));
+			slot.remove(last);
+			if (!task.cancelled) {
+				task.cancelled = true;
+				task.action.run();
+			}
+		}
+	}
+
+	/**
+	 * Handle for a scheduled action.
+	 */
+	public static final class Task {
+		private final long deadline;
+		private final Runnable action;
+		private boolean cancelled;
+
+		private Task(long deadline, Runnable action) {
+			this.deadline = deadline;
+			this.action = action;
+		}
+
+		/**
+		 * Prevent the action from running. No-op if it already ran.
+		 */
+		public void cancel() {
+			this.cancelled = true;
+		}
+
+		/**
+		 * Whether the action has neither run nor been cancelled.
+		 */
+		public boolean isPending() {
+			return !this.cancelled;
+		}
+	}
+}
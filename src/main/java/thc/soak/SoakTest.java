@@ -0,0 +1,324 @@
+package thc.soak;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.mojang.authlib.GameProfile;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.Connection;
+import net.minecraft.network.DisconnectionDetails;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.PacketFlow;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ClientInformation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.CommonListenerCookie;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import thc.claim.ClaimManager;
+import thc.network.HudBundle;
+import thc.network.MobStatusStream;
+import thc.spawn.RegionDetector;
+import thc.spawn.SpawnRegion;
+
+/**
+ * Long-running soak mode ({@code -Dthc.soakTest=true}, see the soakServer run).
+ *
+ * <p>On startup the overworld around spawn is pre-generated, a block of chunks is claimed
+ * as a base and a plains village is placed. Synthetic players then wander the region and
+ * fight whatever spawns near them, and one of them periodically disconnects and is replaced
+ * by a fresh player with a new UUID, so per-player state is created and torn down throughout
+ * the run. Every sample interval the server records MSPT, heap, server-thread allocation
+ * rate, loaded chunks, monsters per spawn region and the sizes of THC's per-player/per-mob
+ * static maps. The time series is written as JSON on shutdown, and the server halts itself
+ * after {@code thc.soak.ticks}.
+ *
+ * <p>Settings (system properties):
+ * <ul>
+ *   <li>{@code thc.soak.ticks}: run length in ticks (default 72000, one hour at 20 TPS)</li>
+ *   <li>{@code thc.soak.players}: synthetic players (default 8)</li>
+ *   <li>{@code thc.soak.radius}: pre-generated chunk radius around spawn (default 12)</li>
+ *   <li>{@code thc.soak.sampleInterval}: ticks between samples (default 1200)</li>
+ *   <li>{@code thc.soak.churnInterval}: ticks between player rejoins (default 600, 0 disables)</li>
+ *   <li>{@code thc.soakReport}: report path (default soak-report.json in the run dir)</li>
+ * </ul>
+ */
+public final class SoakTest {
+	private static final Logger LOGGER = LoggerFactory.getLogger("thc.SoakTest");
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+	public static final boolean ENABLED = Boolean.getBoolean("thc.soakTest");
+
+	private static final int TICKS = Integer.getInteger("thc.soak.ticks", 72000);
+	private static final int PLAYERS = Integer.getInteger("thc.soak.players", 8);
+	private static final int RADIUS = Integer.getInteger("thc.soak.radius", 12);
+	private static final int SAMPLE_INTERVAL = Math.max(1, Integer.getInteger("thc.soak.sampleInterval", 1200));
+	private static final int CHURN_INTERVAL = Integer.getInteger("thc.soak.churnInterval", 600);
+	private static final String REPORT = System.getProperty("thc.soakReport", "soak-report.json");
+
+	private static final double WALK_SPEED = 0.25;
+	private static final int ATTACK_INTERVAL = 20;
+	private static final double ATTACK_RANGE = 4.0;
+
+	private static final List<Walker> WALKERS = new ArrayList<>();
+	private static final JsonArray SAMPLES = new JsonArray();
+	private static final com.sun.management.ThreadMXBean THREADS =
+		(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private static BlockPos spawn = BlockPos.ZERO;
+	private static int tickCount;
+	private static int lastSampleTick;
+	private static long lastAllocatedBytes;
+	private static int rejoins;
+	private static boolean stopRequested;
+
+	private SoakTest() {
+	}
+
+	/**
+	 * A synthetic player walking toward a random point in the pre-generated region.
+	 */
+	private static final class Walker {
+		final ServerPlayer player;
+		double targetX;
+		double targetZ;
+
+		Walker(ServerPlayer player) {
+			this.player = player;
+		}
+	}
+
+	/**
+	 * Registers the soak lifecycle. Called during mod initialization when {@link #ENABLED}.
+	 */
+	public static void register() {
+		ServerLifecycleEvents.SERVER_STARTED.register(SoakTest::setUp);
+		ServerTickEvents.END_SERVER_TICK.register(SoakTest::tick);
+		ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+			sample(server);
+			writeReport();
+		});
+	}
+
+	private static void setUp(MinecraftServer server) {
+		ServerLevel level = server.overworld();
+		spawn = level.getRespawnData().pos();
+		ChunkPos center = new ChunkPos(spawn);
+
+		LOGGER.info("Soak test: pre-generating {} chunks", (2 * RADIUS + 1) * (2 * RADIUS + 1));
+		for (int dx = -RADIUS; dx <= RADIUS; dx++) {
+			for (int dz = -RADIUS; dz <= RADIUS; dz++) {
+				level.getChunk(center.x + dx, center.z + dz);
+			}
+		}
+
+		// A 3x3 chunk base beside spawn
+		for (int dx = 2; dx <= 4; dx++) {
+			for (int dz = 2; dz <= 4; dz++) {
+				ChunkPos chunk = new ChunkPos(center.x + dx, center.z + dz);
+				int surfaceY = level.getHeight(Heightmap.Types.MOTION_BLOCKING, chunk.getMiddleBlockX(), chunk.getMiddleBlockZ());
+				ClaimManager.INSTANCE.addClaim(server, chunk, surfaceY - 10);
+			}
+		}
+
+		// A village on the opposite side, for village protection and villager ticking
+		BlockPos village = surface(level, spawn.getX() - 64, spawn.getZ() - 64);
+		server.getCommands().performPrefixedCommand(server.createCommandSourceStack(),
+			"place structure minecraft:village_plains " + village.getX() + " " + village.getY() + " " + village.getZ());
+
+		for (int i = 0; i < PLAYERS; i++) {
+			Walker walker = new Walker(spawnPlayer(server, level, i));
+			BlockPos start = surface(level, spawn.getX() + i * 4, spawn.getZ());
+			walker.player.teleportTo(start.getX() + 0.5, start.getY(), start.getZ() + 0.5);
+			pickTarget(walker, level.getRandom());
+			WALKERS.add(walker);
+		}
+
+		lastAllocatedBytes = THREADS.getCurrentThreadAllocatedBytes();
+		LOGGER.info("Soak test: running {} ticks with {} players", TICKS, PLAYERS);
+	}
+
+	private static void tick(MinecraftServer server) {
+		if (stopRequested) {
+			return;
+		}
+
+		ServerLevel level = server.overworld();
+		for (int i = 0; i < WALKERS.size(); i++) {
+			Walker walker = WALKERS.get(i);
+			ServerPlayer player = walker.player;
+			player.doTick();
+			// Damage still lands and runs the combat path; players are topped up so they keep roaming
+			player.setHealth(player.getMaxHealth());
+			walk(walker, level);
+			if ((tickCount + i) % ATTACK_INTERVAL == 0) {
+				fight(player, level);
+			}
+		}
+
+		tickCount++;
+		if (CHURN_INTERVAL > 0 && tickCount % CHURN_INTERVAL == 0 && !WALKERS.isEmpty()) {
+			rejoin(server, level, (tickCount / CHURN_INTERVAL) % WALKERS.size());
+		}
+		if (tickCount % SAMPLE_INTERVAL == 0) {
+			sample(server);
+		}
+		if (tickCount >= TICKS) {
+			stopRequested = true;
+			LOGGER.info("Soak test complete, stopping server.");
+			server.halt(false);
+		}
+	}
+
+	private static void walk(Walker walker, ServerLevel level) {
+		ServerPlayer player = walker.player;
+		double dx = walker.targetX - player.getX();
+		double dz = walker.targetZ - player.getZ();
+		double distance = Math.sqrt(dx * dx + dz * dz);
+		if (distance < 1.0) {
+			pickTarget(walker, level.getRandom());
+			return;
+		}
+		double x = player.getX() + dx / distance * WALK_SPEED;
+		double z = player.getZ() + dz / distance * WALK_SPEED;
+		int y = level.getHeight(Heightmap.Types.MOTION_BLOCKING, (int) Math.floor(x), (int) Math.floor(z));
+		player.teleportTo(x, y, z);
+	}
+
+	/**
+	 * Disconnects a walker through the regular disconnect path and puts a new player with a
+	 * fresh UUID in its place.
+	 */
+	private static void rejoin(MinecraftServer server, ServerLevel level, int index) {
+		Walker old = WALKERS.get(index);
+		double x = old.player.getX();
+		double y = old.player.getY();
+		double z = old.player.getZ();
+		old.player.connection.onDisconnect(new DisconnectionDetails(Component.literal("Soak test rejoin")));
+
+		Walker walker = new Walker(spawnPlayer(server, level, index));
+		walker.player.teleportTo(x, y, z);
+		walker.targetX = old.targetX;
+		walker.targetZ = old.targetZ;
+		WALKERS.set(index, walker);
+		rejoins++;
+	}
+
+	private static void fight(ServerPlayer player, ServerLevel level) {
+		List<Monster> nearby = level.getEntitiesOfClass(Monster.class, player.getBoundingBox().inflate(ATTACK_RANGE));
+		if (!nearby.isEmpty()) {
+			player.attack(nearby.get(0));
+		}
+	}
+
+	private static void pickTarget(Walker walker, RandomSource random) {
+		int extent = RADIUS * 16 - 16;
+		walker.targetX = spawn.getX() + random.nextInt(2 * extent + 1) - extent + 0.5;
+		walker.targetZ = spawn.getZ() + random.nextInt(2 * extent + 1) - extent + 0.5;
+	}
+
+	private static BlockPos surface(ServerLevel level, int x, int z) {
+		return new BlockPos(x, level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z), z);
+	}
+
+	private static ServerPlayer spawnPlayer(MinecraftServer server, ServerLevel level, int index) {
+		GameProfile profile = new GameProfile(UUID.randomUUID(), "soak-" + index);
+		CommonListenerCookie cookie = CommonListenerCookie.createInitial(profile, false);
+		ServerPlayer player = new ServerPlayer(server, level, profile, ClientInformation.createDefault());
+		Connection connection = new Connection(PacketFlow.SERVERBOUND);
+		new EmbeddedChannel(connection);
+		server.getPlayerList().placeNewPlayer(connection, player, cookie);
+		player.setGameMode(GameType.SURVIVAL);
+		return player;
+	}
+
+	private static void sample(MinecraftServer server) {
+		ServerLevel level = server.overworld();
+		Runtime runtime = Runtime.getRuntime();
+		long allocated = THREADS.getCurrentThreadAllocatedBytes();
+
+		JsonObject sample = new JsonObject();
+		sample.addProperty("tick", tickCount);
+		sample.addProperty("gameTime", level.getGameTime());
+		sample.addProperty("msptAverage", server.getAverageTickTimeNanos() / 1_000_000.0);
+		sample.addProperty("heapUsedBytes", runtime.totalMemory() - runtime.freeMemory());
+		sample.addProperty("heapCommittedBytes", runtime.totalMemory());
+		// Server-thread allocation since the last sample, per tick (the final sample may cover a partial interval)
+		int elapsed = Math.max(1, tickCount - lastSampleTick);
+		sample.addProperty("allocatedBytesPerTick", (allocated - lastAllocatedBytes) / (double) elapsed);
+		lastAllocatedBytes = allocated;
+		lastSampleTick = tickCount;
+		sample.addProperty("loadedChunks", level.getChunkSource().getLoadedChunksCount());
+
+		int entities = 0;
+		int unclassified = 0;
+		Map<SpawnRegion, Integer> monsters = new EnumMap<>(SpawnRegion.class);
+		for (Entity entity : level.getAllEntities()) {
+			entities++;
+			if (!(entity instanceof Monster)) continue;
+			SpawnRegion region = RegionDetector.getRegion(level, entity.blockPosition());
+			if (region == null) {
+				unclassified++;
+			} else {
+				monsters.merge(region, 1, Integer::sum);
+			}
+		}
+		sample.addProperty("entities", entities);
+		JsonObject byRegion = new JsonObject();
+		for (SpawnRegion region : SpawnRegion.values()) {
+			byRegion.addProperty(region.name(), monsters.getOrDefault(region, 0));
+		}
+		byRegion.addProperty("unclassified", unclassified);
+		sample.add("monstersByRegion", byRegion);
+
+		// Static maps that should stay bounded by players / nearby mobs
+		sample.addProperty("players", server.getPlayerList().getPlayerCount());
+		sample.addProperty("rejoins", rejoins);
+		sample.addProperty("hudTrackedPlayers", HudBundle.trackedPlayerCount());
+		sample.addProperty("mobStatusTrackedMobs", MobStatusStream.trackedMobCount());
+
+		SAMPLES.add(sample);
+	}
+
+	private static void writeReport() {
+		JsonObject report = new JsonObject();
+		report.addProperty("ticks", tickCount);
+		report.addProperty("players", PLAYERS);
+		report.addProperty("radius", RADIUS);
+		report.addProperty("sampleInterval", SAMPLE_INTERVAL);
+		report.addProperty("churnInterval", CHURN_INTERVAL);
+		report.add("samples", SAMPLES);
+
+		Path path = Path.of(REPORT);
+		try {
+			Path parent = path.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			Files.writeString(path, GSON.toJson(report));
+			LOGGER.info("Soak report written to {}", path.toAbsolutePath());
+		} catch (IOException e) {
+			LOGGER.error("Failed to write soak report {}", path, e);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package thc.spawn;
 
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.monster.illager.Pillager;
 import net.minecraft.world.item.ItemStack;
@@ -43,6 +45,14 @@ public enum PillagerVariant {
 		}
 	};
 
+	/**
+	 * Name codec ("MELEE", "RANGED") for spawn distribution JSON.
+	 */
+	public static final Codec<PillagerVariant> CODEC = Codec.STRING.comapFlatMap(
+		PillagerVariant::decodeName,
+		PillagerVariant::name
+	);
+
 	/**
 	 * Apply equipment appropriate for this variant to the pillager.
 	 * Must be called AFTER finalizeSpawn (TAIL injection) so equipment isn't overwritten.
@@ -50,4 +60,13 @@ public enum PillagerVariant {
 	 * @param pillager The pillager to equip
 	 */
 	public abstract void applyEquipment(Pillager pillager);
+
+	private static DataResult<PillagerVariant> decodeName(String name) {
+		for (PillagerVariant variant : values()) {
+			if (variant.name().equals(name)) {
+				return DataResult.success(variant);
+			}
+		}
+		return DataResult.error(() -> "Unknown pillager variant: " + name);
+	}
 }
@@ -0,0 +1,165 @@
+package thc.spawn;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.Level;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Optional per-player regional caps, enabled with {@code -Dthc.perPlayerRegionalCaps=true}.
+ *
+ * <p>Instead of one level-wide budget per region, every player gets the full regional cap
+ * for the spawn column around them (128 blocks horizontally, the vanilla spawn radius).
+ * A spawn is allowed if any player whose column contains the spawn position is still under
+ * cap for that region - the same rule vanilla's LocalMobCapCalculator applies to per-player
+ * category caps. One group's cave fight therefore only exhausts the budget of the players
+ * standing near it.
+ *
+ * <p>Per-player counts are built once per level tick, lazily on the first cap check, with a
+ * single pass over the mobs already counted by {@link RegionalMobCounter}. Cost is bounded by
+ * counted mobs x players in the level and is shared by every spawnForChunk call in that tick.
+ * Mobs counted later in the same tick are added incrementally so a pack spawned this tick is
+ * visible to the next cap check.
+ */
+final class PlayerRegionalCaps {
+	static final boolean ENABLED = Boolean.getBoolean("thc.perPlayerRegionalCaps");
+
+	/**
+	 * Horizontal radius of a player's spawn column (8 chunks, vanilla spawn distance), squared.
+	 */
+	private static final double COLUMN_RADIUS_SQ = 128.0 * 128.0;
+
+	private static final Map<ResourceKey<Level>, Snapshot> SNAPSHOTS = new HashMap<>();
+
+	private PlayerRegionalCaps() {
+	}
+
+	/**
+	 * Registers shutdown cleanup so snapshots never hold players across server restarts.
+	 */
+	static void register() {
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> SNAPSHOTS.clear());
+	}
+
+	/**
+	 * Check the per-player cap for a spawn position.
+	 *
+	 * <p>Falls back to the level-wide count when no player column covers the position.
+	 *
+	 * @param level  The server level
+	 * @param pos    The spawn position
+	 * @param region The region of the spawn position
+	 * @return true if at least one covering player is below cap
+	 */
+	static boolean canSpawn(ServerLevel level, BlockPos pos, SpawnRegion region) {
+		Snapshot snapshot = SNAPSHOTS.computeIfAbsent(level.dimension(), key -> new Snapshot());
+		snapshot.refresh(level);
+
+		int cap = region.cap();
+		double x = pos.getX() + 0.5;
+		double z = pos.getZ() + 0.5;
+		boolean covered = false;
+		for (int i = 0; i < snapshot.size; i++) {
+			if (!snapshot.covers(i, x, z)) {
+				continue;
+			}
+			covered = true;
+			if (snapshot.count(i, region) < cap) {
+				return true;
+			}
+		}
+
+		if (covered) {
+			return false;
+		}
+		return RegionalMobCounter.getCount(level, region) < cap;
+	}
+
+	/**
+	 * Add a newly counted mob to the current tick's snapshot, if one was already built.
+	 */
+	static void onCounted(ServerLevel level, Mob mob, SpawnRegion region) {
+		if (!ENABLED) {
+			return;
+		}
+		Snapshot snapshot = SNAPSHOTS.get(level.dimension());
+		if (snapshot != null && snapshot.tick == level.getGameTime()) {
+			snapshot.add(mob, region);
+		}
+	}
+
+	/**
+	 * Per-level, per-tick player positions and regional counts. Counts are a flat
+	 * player-major array indexed by {@code player * SpawnRegion.COUNT + ordinal}.
+	 * Arrays are reused between ticks.
+	 */
+	private static final class Snapshot {
+		private long tick = Long.MIN_VALUE;
+		private int size;
+		private double[] xs = new double[8];
+		private double[] zs = new double[8];
+		private int[] counts = new int[8 * SpawnRegion.COUNT];
+
+		void refresh(ServerLevel level) {
+			long now = level.getGameTime();
+			if (this.tick == now) {
+				return;
+			}
+			this.tick = now;
+			this.size = 0;
+
+			for (ServerPlayer player : level.players()) {
+				// Spectators don't drive natural spawning
+				if (player.isSpectator()) {
+					continue;
+				}
+				ensureCapacity(this.size + 1);
+				this.xs[this.size] = player.getX();
+				this.zs[this.size] = player.getZ();
+				Arrays.fill(this.counts, this.size * SpawnRegion.COUNT, (this.size + 1) * SpawnRegion.COUNT, 0);
+				this.size++;
+			}
+
+			if (this.size > 0) {
+				RegionalMobCounter.forEachCounted(level, this::add);
+			}
+		}
+
+		void add(Mob mob, SpawnRegion region) {
+			double x = mob.getX();
+			double z = mob.getZ();
+			int ordinal = region.ordinal();
+			for (int i = 0; i < this.size; i++) {
+				if (covers(i, x, z)) {
+					this.counts[i * SpawnRegion.COUNT + ordinal]++;
+				}
+			}
+		}
+
+		int count(int index, SpawnRegion region) {
+			return this.counts[index * SpawnRegion.COUNT + region.ordinal()];
+		}
+
+		boolean covers(int index, double x, double z) {
+			double dx = this.xs[index] - x;
+			double dz = this.zs[index] - z;
+			return dx * dx + dz * dz <= COLUMN_RADIUS_SQ;
+		}
+
+		private void ensureCapacity(int capacity) {
+			if (capacity > this.xs.length) {
+				int newLength = Math.max(capacity, this.xs.length * 2);
+				this.xs = Arrays.copyOf(this.xs, newLength);
+				this.zs = Arrays.copyOf(this.zs, newLength);
+				this.counts = Arrays.copyOf(this.counts, newLength * SpawnRegion.COUNT);
+			}
+		}
+	}
+}
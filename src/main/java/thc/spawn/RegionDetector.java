@@ -3,7 +3,7 @@ package thc.spawn;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.levelgen.Heightmap;
+import thc.access.SurfaceHeightSource;
 
 /**
  * Shared region detection logic for spawn system.
@@ -16,6 +16,9 @@ import net.minecraft.world.level.levelgen.Heightmap;
  *   <li>Matches player intuition ("surface" = ground level, not sky visibility)</li>
  *   <li>MOTION_BLOCKING excludes leaves (under-tree = surface, not cave)</li>
  * </ul>
+ *
+ * <p>Surface heights are read through {@link SurfaceHeightCache}, via the level's
+ * {@link SurfaceHeightSource}.
  */
 public final class RegionDetector {
 
@@ -36,28 +39,33 @@ public final class RegionDetector {
 	 *
 	 * @param level The server level
 	 * @param pos   The spawn position
-	 * @return Region string or null if non-Overworld
+	 * @return Region or null if non-Overworld
 	 */
-	public static String getRegion(ServerLevel level, BlockPos pos) {
+	public static SpawnRegion getRegion(ServerLevel level, BlockPos pos) {
 		// Only Overworld has regional spawn system
 		if (level.dimension() != Level.OVERWORLD) {
 			return null;
 		}
 
-		int y = pos.getY();
+		return getOverworldRegion((SurfaceHeightSource) level, pos.getX(), pos.getY(), pos.getZ());
+	}
 
+	/**
+	 * Detect the Overworld region of a position against a surface height source.
+	 */
+	static SpawnRegion getOverworldRegion(SurfaceHeightSource heights, int x, int y, int z) {
 		// Lower cave: below Y=0 (sea level)
 		if (y < 0) {
-			return "OW_LOWER_CAVE";
+			return SpawnRegion.OW_LOWER_CAVE;
 		}
 
 		// Surface: Y >= heightmap at X/Z
-		int surfaceY = level.getHeight(Heightmap.Types.MOTION_BLOCKING, pos.getX(), pos.getZ());
+		int surfaceY = heights.thc$getSurfaceY(x, z);
 		if (y >= surfaceY) {
-			return "OW_SURFACE";
+			return SpawnRegion.OW_SURFACE;
 		}
 
 		// Upper cave: Y >= 0 but below heightmap
-		return "OW_UPPER_CAVE";
+		return SpawnRegion.OW_UPPER_CAVE;
 	}
 }
@@ -1,13 +1,7 @@
 package thc.spawn;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.Mob;
-import net.minecraft.world.entity.MobCategory;
-import thc.THCAttachments;
-
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Manages regional monster caps for independent Overworld zone spawn limits.
@@ -19,72 +13,29 @@ import java.util.Map;
  *   <li>Lower Cave (Y < 0): 35 mobs (50% of 70)</li>
  * </ul>
  *
- * <p>Each region operates independently - surface cap doesn't affect cave spawns.
+ * <p>Caps live on {@link SpawnRegion}. Each region operates independently - surface cap
+ * doesn't affect cave spawns.
  * Only mobs with SPAWN_COUNTED=true attachment contribute to regional counts.
  *
- * <p>ThreadLocal storage ensures thread-safe counting per spawn cycle.
- * Counts are populated at spawn cycle start (NaturalSpawner.spawnForChunk HEAD)
- * and cleared at cycle end (RETURN).
+ * <p>Counts come from {@link RegionalMobCounter}, which is maintained incrementally
+ * on entity load/unload, so a cap check is a single map lookup.
+ *
+ * <p>With {@code -Dthc.perPlayerRegionalCaps=true} the caps apply per player spawn column
+ * instead of per level (see {@link PlayerRegionalCaps}).
  */
 public final class RegionalCapManager {
 
-	/**
-	 * Per-cycle regional mob counts. ThreadLocal ensures thread safety and
-	 * automatic cleanup when thread completes.
-	 */
-	private static final ThreadLocal<Map<String, Integer>> REGIONAL_COUNTS =
-		ThreadLocal.withInitial(HashMap::new);
-
-	/**
-	 * Hard-coded regional caps per user decision.
-	 * Each region is independent - no global cap applies.
-	 */
-	private static final Map<String, Integer> REGIONAL_CAPS = Map.of(
-		"OW_SURFACE", 21,      // 30% of 70
-		"OW_UPPER_CAVE", 28,   // 40% of 70
-		"OW_LOWER_CAVE", 35    // 50% of 70
-	);
-
 	private RegionalCapManager() {
 		// Utility class
 	}
 
 	/**
-	 * Count all SPAWN_COUNTED monsters by region in the given level.
-	 *
-	 * <p>Iterates all entities, filters to MONSTER category mobs with
-	 * SPAWN_COUNTED=true, and groups by SPAWN_REGION attachment.
-	 *
-	 * <p>Results stored in ThreadLocal for subsequent canSpawnInRegion checks.
-	 *
-	 * @param level The server level to count mobs in
+	 * Registers lifecycle hooks for the optional per-player mode.
+	 * Called during mod initialization.
 	 */
-	public static void countMobsByRegion(ServerLevel level) {
-		Map<String, Integer> counts = REGIONAL_COUNTS.get();
-		counts.clear();
-
-		for (Entity entity : level.getAllEntities()) {
-			// Filter: must be a Mob
-			if (!(entity instanceof Mob mob)) {
-				continue;
-			}
-
-			// Filter: must be MONSTER category
-			if (mob.getType().getCategory() != MobCategory.MONSTER) {
-				continue;
-			}
-
-			// Filter: must have SPAWN_COUNTED=true
-			Boolean spawnCounted = mob.getAttached(THCAttachments.SPAWN_COUNTED);
-			if (spawnCounted == null || !spawnCounted) {
-				continue;
-			}
-
-			// Group by region
-			String region = mob.getAttached(THCAttachments.SPAWN_REGION);
-			if (region != null) {
-				counts.merge(region, 1, Integer::sum);
-			}
+	public static void register() {
+		if (PlayerRegionalCaps.ENABLED) {
+			PlayerRegionalCaps.register();
 		}
 	}
 
@@ -94,37 +45,25 @@ public final class RegionalCapManager {
 	 * <p>Returns true (allow spawn) if:
 	 * <ul>
 	 *   <li>Region is null (non-Overworld uses vanilla caps)</li>
-	 *   <li>Region not in cap map (unknown region)</li>
 	 *   <li>Current count is below the cap</li>
 	 * </ul>
 	 *
-	 * @param region The region string (OW_SURFACE, OW_UPPER_CAVE, OW_LOWER_CAVE) or null
+	 * @param level  The server level being spawned into
+	 * @param pos    The spawn position
+	 * @param region The region (OW_SURFACE, OW_UPPER_CAVE, OW_LOWER_CAVE) or null
 	 * @return true if spawning is allowed, false if regional cap reached
 	 */
-	public static boolean canSpawnInRegion(String region) {
+	public static boolean canSpawnInRegion(ServerLevel level, BlockPos pos, SpawnRegion region) {
 		// Non-Overworld (null region) bypasses regional caps
 		if (region == null) {
 			return true;
 		}
 
-		// Unknown region (not in cap map) allows spawn
-		Integer cap = REGIONAL_CAPS.get(region);
-		if (cap == null) {
-			return true;
+		if (PlayerRegionalCaps.ENABLED) {
+			return PlayerRegionalCaps.canSpawn(level, pos, region);
 		}
 
-		// Check count against cap
-		int count = REGIONAL_COUNTS.get().getOrDefault(region, 0);
-		return count < cap;
-	}
-
-	/**
-	 * Clear regional counts after spawn cycle completes.
-	 *
-	 * <p>Called at RETURN of NaturalSpawner.spawnForChunk to prevent
-	 * ThreadLocal memory leaks.
-	 */
-	public static void clearCounts() {
-		REGIONAL_COUNTS.remove();
+		// Check live count against cap
+		return RegionalMobCounter.getCount(level, region) < region.cap();
 	}
 }
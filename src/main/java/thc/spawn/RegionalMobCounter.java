@@ -0,0 +1,214 @@
+package thc.spawn;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.level.Level;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import thc.THCAttachments;
+import thc.jfr.RegionalCountEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Incrementally maintained count of SPAWN_COUNTED monsters per region, one counter per level.
+ *
+ * <p>Replaces the full {@code getAllEntities()} scan that used to run at the head of every
+ * {@code NaturalSpawner.spawnForChunk} call. Counts are kept up to date by:
+ * <ul>
+ *   <li>{@code ENTITY_LOAD} - mob enters the level (spawned or loaded from disk)</li>
+ *   <li>{@code ENTITY_UNLOAD} - mob leaves the level (chunk unload, death, discard)</li>
+ *   <li>{@link #onSpawnTagsChanged(Mob)} - SPAWN_COUNTED/SPAWN_REGION rewritten on a live mob</li>
+ * </ul>
+ *
+ * <p>Each tracked mob remembers the region it was counted under, so a decrement always
+ * undoes exactly the increment it was paired with. A reconciliation pass rebuilds the
+ * counts from scratch every {@link #RECONCILE_INTERVAL_TICKS} ticks to correct any drift.
+ *
+ * <p>All access happens on the server thread.
+ */
+public final class RegionalMobCounter {
+	private static final Logger LOGGER = LoggerFactory.getLogger("thc.RegionalMobCounter");
+
+	/**
+	 * Full rescan interval (1 minute). Only a safety net - incremental updates are authoritative.
+	 */
+	private static final int RECONCILE_INTERVAL_TICKS = 1200;
+
+	private static final Map<ResourceKey<Level>, RegionalMobCounter> COUNTERS = new HashMap<>();
+
+	/**
+	 * Live count per region, indexed by {@link SpawnRegion#ordinal()}.
+	 */
+	private final int[] counts = new int[SpawnRegion.COUNT];
+
+	/**
+	 * Counted mob to the region it is currently counted under.
+	 */
+	private final Reference2ObjectOpenHashMap<Mob, SpawnRegion> tracked = new Reference2ObjectOpenHashMap<>();
+
+	private RegionalMobCounter() {
+	}
+
+	/**
+	 * Registers entity lifecycle, reconciliation and shutdown hooks.
+	 * Called during mod initialization.
+	 */
+	public static void register() {
+		ServerEntityEvents.ENTITY_LOAD.register((entity, level) -> {
+			if (entity instanceof Mob mob) {
+				SpawnRegion region = forLevel(level).track(mob);
+				if (region != null) {
+					PlayerRegionalCaps.onCounted(level, mob, region);
+				}
+			}
+		});
+
+		ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+			if (entity instanceof Mob mob) {
+				RegionalMobCounter counter = COUNTERS.get(level.dimension());
+				if (counter != null) {
+					counter.untrack(mob);
+				}
+			}
+		});
+
+		ServerTickEvents.END_WORLD_TICK.register(level -> {
+			if (level.getGameTime() % RECONCILE_INTERVAL_TICKS != 0) {
+				return;
+			}
+			RegionalMobCounter counter = COUNTERS.get(level.dimension());
+			if (counter != null) {
+				counter.reconcile(level);
+			}
+		});
+
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> COUNTERS.clear());
+	}
+
+	/**
+	 * Get the live count of SPAWN_COUNTED monsters in a region.
+	 *
+	 * @param level  The server level
+	 * @param region The region
+	 * @return Number of counted monsters currently loaded in that region
+	 */
+	public static int getCount(ServerLevel level, SpawnRegion region) {
+		RegionalMobCounter counter = COUNTERS.get(level.dimension());
+		return counter == null ? 0 : counter.counts[region.ordinal()];
+	}
+
+	/**
+	 * Visit every mob currently counted in the level with the region it counts toward.
+	 */
+	static void forEachCounted(ServerLevel level, BiConsumer<Mob, SpawnRegion> visitor) {
+		RegionalMobCounter counter = COUNTERS.get(level.dimension());
+		if (counter != null) {
+			counter.tracked.forEach(visitor);
+		}
+	}
+
+	/**
+	 * Re-evaluate a mob's contribution after its SPAWN_COUNTED or SPAWN_REGION
+	 * attachment was written.
+	 *
+	 * <p>No-op for mobs that are not yet in the level (e.g. tagged during finalizeSpawn
+	 * before addFreshEntity) - ENTITY_LOAD picks those up with their final tags.
+	 */
+	public static void onSpawnTagsChanged(Mob mob) {
+		if (!(mob.level() instanceof ServerLevel level)) {
+			return;
+		}
+		if (level.getEntity(mob.getId()) != mob) {
+			return;
+		}
+		RegionalMobCounter counter = forLevel(level);
+		counter.untrack(mob);
+		counter.track(mob);
+	}
+
+	/**
+	 * Region a mob counts toward, or null if it does not count toward any regional cap.
+	 *
+	 * <p>Only MONSTER category mobs with SPAWN_COUNTED=true and a SPAWN_REGION count.
+	 */
+	private static SpawnRegion countedRegion(Mob mob) {
+		if (mob.getType().getCategory() != MobCategory.MONSTER) {
+			return null;
+		}
+		Boolean spawnCounted = mob.getAttached(THCAttachments.SPAWN_COUNTED);
+		if (spawnCounted == null || !spawnCounted) {
+			return null;
+		}
+		return mob.getAttached(THCAttachments.SPAWN_REGION);
+	}
+
+	private static RegionalMobCounter forLevel(ServerLevel level) {
+		return COUNTERS.computeIfAbsent(level.dimension(), key -> new RegionalMobCounter());
+	}
+
+	/**
+	 * Start counting a mob if it qualifies.
+	 *
+	 * @return The region the mob was counted under, or null if it does not count
+	 */
+	private SpawnRegion track(Mob mob) {
+		SpawnRegion region = countedRegion(mob);
+		if (region == null) {
+			return null;
+		}
+		SpawnRegion previous = this.tracked.put(mob, region);
+		if (previous != null) {
+			// Already counted (duplicate load) - undo the old contribution first
+			this.counts[previous.ordinal()]--;
+		}
+		this.counts[region.ordinal()]++;
+		return region;
+	}
+
+	private void untrack(Mob mob) {
+		SpawnRegion region = this.tracked.remove(mob);
+		if (region != null) {
+			this.counts[region.ordinal()]--;
+		}
+	}
+
+	/**
+	 * Rebuild counts from a full entity scan.
+	 */
+	private void reconcile(ServerLevel level) {
+		RegionalCountEvent event = new RegionalCountEvent();
+		event.begin();
+		int[] before = this.counts.clone();
+		Arrays.fill(this.counts, 0);
+		this.tracked.clear();
+
+		for (Entity entity : level.getAllEntities()) {
+			if (entity instanceof Mob mob) {
+				track(mob);
+			}
+		}
+
+		if (LOGGER.isDebugEnabled() && !Arrays.equals(before, this.counts)) {
+			LOGGER.debug("Regional counts drifted in {}: {} -> {}", level.dimension().identifier(),
+				Arrays.toString(before), Arrays.toString(this.counts));
+		}
+
+		if (event.shouldCommit()) {
+			event.dimension = level.dimension().identifier().toString();
+			event.counted = this.tracked.size();
+			event.drifted = !Arrays.equals(before, this.counts);
+			event.commit();
+		}
+	}
+}
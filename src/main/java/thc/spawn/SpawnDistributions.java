@@ -1,12 +1,34 @@
 package thc.spawn;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.Identifier;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.packs.PackType;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.ExtraCodecs;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import thc.stage.StageManager;
 
-import java.util.ArrayList;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Regional spawn distribution tables with weighted random selection.
@@ -16,117 +38,278 @@ import java.util.Map;
  * whether to spawn a custom mob (witch, vex, pillager, etc.) or allow vanilla
  * spawn behavior.
  *
+ * <p>Tables are data-driven: every {@code data/<namespace>/spawn_distribution/*.json}
+ * file defines one table for a dimension + region, optionally only from a given stage
+ * upward. THC ships the default tables in its own datapack; {@code /reload} recompiles
+ * them. Each table is compiled into an alias table (Vose) with one preallocated
+ * {@link MobSelection} per entry, so {@link #selectMob} is O(1) and allocation-free.
+ *
+ * <pre>{@code
+ * {
+ *   "dimension": "minecraft:overworld",
+ *   "region": "OW_UPPER_CAVE",
+ *   "min_stage": 1,                                          // optional, default 1
+ *   "entries": [
+ *     { "type": "minecraft:pillager", "variant": "MELEE", "weight": 25 },
+ *     { "weight": 60 }                                       // no type = vanilla fallback
+ *   ]
+ * }
+ * }</pre>
+ *
  * <p>Custom spawns bypass vanilla spawn conditions - witches spawn anywhere,
  * blazes/breezes don't need fortresses. This is intentional per design spec.
  */
 public final class SpawnDistributions {
+	private static final Logger LOGGER = LoggerFactory.getLogger("thc.SpawnDistributions");
+
+	private static final String DIRECTORY = "spawn_distribution";
+
+	/**
+	 * Highest stage a table can be keyed on (see StageData).
+	 */
+	private static final int MAX_STAGE = 5;
 
 	/**
 	 * A weighted entry in a spawn distribution table.
 	 *
-	 * @param type    The entity type to spawn, or null for vanilla fallback
-	 * @param variant The variant string (e.g., "MELEE" or "RANGED" for pillagers), or null
-	 * @param weight  The weight for weighted random selection (percentages summing to 100)
+	 * @param type    The entity type to spawn, or empty for vanilla fallback
+	 * @param variant The pillager variant, or empty
+	 * @param weight  The weight for weighted random selection (any positive scale)
 	 */
-	public record WeightedEntry(EntityType<?> type, String variant, int weight) {
-		/**
-		 * Create a weighted entry for a standard mob (no variant).
-		 */
-		public WeightedEntry(EntityType<?> type, int weight) {
-			this(type, null, weight);
-		}
+	public record WeightedEntry(Optional<EntityType<?>> type, Optional<PillagerVariant> variant, int weight) {
+		public static final Codec<WeightedEntry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+			BuiltInRegistries.ENTITY_TYPE.byNameCodec().optionalFieldOf("type").forGetter(WeightedEntry::type),
+			PillagerVariant.CODEC.optionalFieldOf("variant").forGetter(WeightedEntry::variant),
+			ExtraCodecs.POSITIVE_INT.fieldOf("weight").forGetter(WeightedEntry::weight)
+		).apply(instance, WeightedEntry::new));
 	}
 
 	/**
-	 * Result of a spawn distribution selection.
+	 * One distribution table as defined in a datapack file.
+	 *
+	 * @param dimension The dimension the table applies to
+	 * @param region    The region the table applies to
+	 * @param minStage  The lowest server stage this table applies at
+	 * @param entries   The weighted entries
+	 */
+	public record TableDefinition(ResourceKey<Level> dimension, SpawnRegion region, int minStage, List<WeightedEntry> entries) {
+		public static final Codec<TableDefinition> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+			Level.RESOURCE_KEY_CODEC.fieldOf("dimension").forGetter(TableDefinition::dimension),
+			SpawnRegion.NAME_CODEC.fieldOf("region").forGetter(TableDefinition::region),
+			Codec.intRange(1, MAX_STAGE).optionalFieldOf("min_stage", 1).forGetter(TableDefinition::minStage),
+			WeightedEntry.CODEC.listOf(1, Integer.MAX_VALUE).fieldOf("entries").forGetter(TableDefinition::entries)
+		).apply(instance, TableDefinition::new));
+	}
+
+	/**
+	 * Result of a spawn distribution selection. Instances are preallocated per table entry
+	 * and shared between rolls.
 	 *
 	 * @param type      The entity type to spawn, or null for vanilla
-	 * @param variant   The variant string for pillagers, or null
+	 * @param variant   The pillager variant, or null
 	 * @param isVanilla True if vanilla mob should spawn (type is null)
 	 */
-	public record MobSelection(EntityType<?> type, String variant, boolean isVanilla) {
+	public record MobSelection(EntityType<?> type, PillagerVariant variant, boolean isVanilla) {
+		private static final MobSelection VANILLA = new MobSelection(null, null, true);
+
 		/**
-		 * Create a vanilla fallback selection.
+		 * The shared vanilla fallback selection.
 		 */
 		public static MobSelection vanillaFallback() {
-			return new MobSelection(null, null, true);
+			return VANILLA;
 		}
 	}
 
 	/**
-	 * Distribution tables by region name.
-	 * Keys: OW_SURFACE, OW_UPPER_CAVE, OW_LOWER_CAVE
+	 * Compiled tables: dimension -> [region ordinal][stage] -> alias table (or null).
+	 * Swapped atomically on reload.
 	 */
-	private static final Map<String, List<WeightedEntry>> TABLES = new HashMap<>();
-
-	static {
-		// OW_SURFACE: 5% witch, 95% vanilla fallback
-		List<WeightedEntry> surface = new ArrayList<>();
-		surface.add(new WeightedEntry(EntityType.WITCH, 5));
-		surface.add(new WeightedEntry(null, null, 95)); // vanilla fallback
-		TABLES.put("OW_SURFACE", surface);
-
-		// OW_UPPER_CAVE: 5% witch, 10% pillager ranged, 25% pillager melee, 60% vanilla
-		// (vex removed - they fly up through ground to surface)
-		List<WeightedEntry> upperCave = new ArrayList<>();
-		upperCave.add(new WeightedEntry(EntityType.WITCH, 5));
-		upperCave.add(new WeightedEntry(EntityType.PILLAGER, "RANGED", 10));
-		upperCave.add(new WeightedEntry(EntityType.PILLAGER, "MELEE", 25));
-		upperCave.add(new WeightedEntry(null, null, 60)); // vanilla fallback
-		TABLES.put("OW_UPPER_CAVE", upperCave);
-
-		// OW_LOWER_CAVE: 15% wither skeleton, 8% blaze, 8% breeze, 12% vindicator, 20% pillager melee, 2% evoker, 35% vanilla
-		List<WeightedEntry> lowerCave = new ArrayList<>();
-		lowerCave.add(new WeightedEntry(EntityType.WITHER_SKELETON, 15));
-		lowerCave.add(new WeightedEntry(EntityType.BLAZE, 8));
-		lowerCave.add(new WeightedEntry(EntityType.BREEZE, 8));
-		lowerCave.add(new WeightedEntry(EntityType.VINDICATOR, 12));
-		lowerCave.add(new WeightedEntry(EntityType.PILLAGER, "MELEE", 20)); // was 25
-		lowerCave.add(new WeightedEntry(EntityType.EVOKER, 2));
-		lowerCave.add(new WeightedEntry(null, null, 35)); // was 45
-		TABLES.put("OW_LOWER_CAVE", lowerCave);
-
-		// Validate each table sums to 100
-		for (var entry : TABLES.entrySet()) {
-			int total = entry.getValue().stream().mapToInt(WeightedEntry::weight).sum();
-			if (total != 100) {
-				throw new IllegalStateException("Distribution for " + entry.getKey() +
-					" sums to " + total + ", expected 100");
-			}
-		}
-	}
+	private static volatile Map<ResourceKey<Level>, AliasTable[][]> tables = Map.of();
 
 	private SpawnDistributions() {
 	}
 
+	/**
+	 * Registers the datapack reload listener. Called during mod initialization.
+	 */
+	public static void register() {
+		ResourceManagerHelper.get(PackType.SERVER_DATA).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+			@Override
+			public Identifier getFabricId() {
+				return Identifier.fromNamespaceAndPath("thc", DIRECTORY);
+			}
+
+			@Override
+			public void onResourceManagerReload(ResourceManager resourceManager) {
+				reload(resourceManager);
+			}
+		});
+	}
+
 	/**
 	 * Select a mob type for the given region using weighted random selection.
 	 *
-	 * @param region The region name (OW_SURFACE, OW_UPPER_CAVE, OW_LOWER_CAVE)
+	 * @param level  The level being spawned into (selects dimension and stage)
+	 * @param region The region (OW_SURFACE, OW_UPPER_CAVE, OW_LOWER_CAVE)
 	 * @param random The random source for selection
-	 * @return The selected mob, or vanilla fallback if region unknown or vanilla selected
+	 * @return The selected mob, or vanilla fallback if no table applies or vanilla selected
 	 */
-	public static MobSelection selectMob(String region, RandomSource random) {
-		List<WeightedEntry> table = TABLES.get(region);
-		if (table == null || table.isEmpty()) {
+	public static MobSelection selectMob(ServerLevel level, SpawnRegion region, RandomSource random) {
+		AliasTable[][] byRegion = tables.get(level.dimension());
+		if (byRegion == null) {
 			return MobSelection.vanillaFallback();
 		}
 
-		int roll = random.nextInt(100); // 0-99
-		int cumulative = 0;
+		AliasTable[] byStage = byRegion[region.ordinal()];
+		if (byStage == null) {
+			return MobSelection.vanillaFallback();
+		}
+
+		// Unstaged tables share one instance across all stages - skip the stage lookup
+		AliasTable table = byStage[1];
+		if (byStage[1] != byStage[MAX_STAGE]) {
+			int stage = Math.clamp(StageManager.getCurrentStage(level.getServer()), 1, MAX_STAGE);
+			table = byStage[stage];
+		}
+
+		return table == null ? MobSelection.vanillaFallback() : table.sample(random);
+	}
+
+	private static void reload(ResourceManager resourceManager) {
+		// dimension -> region ordinal -> stage -> definition (exact min_stage only)
+		Map<ResourceKey<Level>, TableDefinition[][]> definitions = new HashMap<>();
+		int loaded = 0;
+
+		for (Map.Entry<Identifier, Resource> file : resourceManager.listResources(DIRECTORY, id -> id.getPath().endsWith(".json")).entrySet()) {
+			try (Reader reader = file.getValue().openAsReader()) {
+				JsonElement json = JsonParser.parseReader(reader);
+				TableDefinition definition = TableDefinition.CODEC.parse(JsonOps.INSTANCE, json).getOrThrow();
+				TableDefinition[][] byRegion = definitions.computeIfAbsent(definition.dimension(),
+					key -> new TableDefinition[SpawnRegion.COUNT][]);
+				int ordinal = definition.region().ordinal();
+				if (byRegion[ordinal] == null) {
+					byRegion[ordinal] = new TableDefinition[MAX_STAGE + 1];
+				}
+				TableDefinition[] byStage = byRegion[ordinal];
+				if (byStage[definition.minStage()] != null) {
+					LOGGER.warn("Spawn distribution {} overrides another table for {} {} stage {}",
+						file.getKey(), definition.dimension().identifier(), definition.region(), definition.minStage());
+				}
+				byStage[definition.minStage()] = definition;
+				loaded++;
+			} catch (Exception e) {
+				LOGGER.error("Failed to load spawn distribution {}", file.getKey(), e);
+			}
+		}
 
-		for (WeightedEntry entry : table) {
-			cumulative += entry.weight();
-			if (roll < cumulative) {
-				if (entry.type() == null) {
-					return MobSelection.vanillaFallback();
-				} else {
-					return new MobSelection(entry.type(), entry.variant(), false);
+		Map<ResourceKey<Level>, AliasTable[][]> compiled = new HashMap<>();
+		for (Map.Entry<ResourceKey<Level>, TableDefinition[][]> dimension : definitions.entrySet()) {
+			AliasTable[][] byRegion = new AliasTable[SpawnRegion.COUNT][];
+			for (int region = 0; region < SpawnRegion.COUNT; region++) {
+				TableDefinition[] byStage = dimension.getValue()[region];
+				if (byStage != null) {
+					byRegion[region] = compileStages(byStage);
 				}
 			}
+			compiled.put(dimension.getKey(), byRegion);
 		}
 
-		// Should never reach here if tables sum to 100, but fallback anyway
-		return MobSelection.vanillaFallback();
+		tables = compiled;
+		LOGGER.info("Loaded {} spawn distribution tables", loaded);
+	}
+
+	/**
+	 * Resolve each stage to the table with the highest min_stage at or below it.
+	 * Stages that share a definition share the compiled table instance.
+	 */
+	private static AliasTable[] compileStages(TableDefinition[] byStage) {
+		AliasTable[] result = new AliasTable[MAX_STAGE + 1];
+		AliasTable current = null;
+		for (int stage = 1; stage <= MAX_STAGE; stage++) {
+			if (byStage[stage] != null) {
+				current = AliasTable.compile(byStage[stage].entries());
+			}
+			result[stage] = current;
+		}
+		return result;
+	}
+
+	/**
+	 * Walker/Vose alias table over integer weights.
+	 *
+	 * <p>Sampling draws a column uniformly, then keeps it or takes its alias with an
+	 * exact integer threshold test. Two RNG calls, no allocation, no scan.
+	 *
+	 * <p>Package-private for the selection benchmark.
+	 */
+	static final class AliasTable {
+		private final MobSelection[] outcomes;
+		private final int[] thresholds;
+		private final int[] aliases;
+		private final int totalWeight;
+
+		private AliasTable(MobSelection[] outcomes, int[] thresholds, int[] aliases, int totalWeight) {
+			this.outcomes = outcomes;
+			this.thresholds = thresholds;
+			this.aliases = aliases;
+			this.totalWeight = totalWeight;
+		}
+
+		MobSelection sample(RandomSource random) {
+			int column = random.nextInt(this.outcomes.length);
+			return random.nextInt(this.totalWeight) < this.thresholds[column]
+				? this.outcomes[column]
+				: this.outcomes[this.aliases[column]];
+		}
+
+		static AliasTable compile(List<WeightedEntry> entries) {
+			int n = entries.size();
+			MobSelection[] outcomes = new MobSelection[n];
+			long[] scaled = new long[n];
+			long total = 0;
+
+			for (int i = 0; i < n; i++) {
+				WeightedEntry entry = entries.get(i);
+				outcomes[i] = entry.type()
+					.map(type -> new MobSelection(type, entry.variant().orElse(null), false))
+					.orElse(MobSelection.vanillaFallback());
+				total += entry.weight();
+			}
+			if (total > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Spawn distribution weights sum to " + total + ", too large");
+			}
+			int totalWeight = (int) total;
+
+			// Scale so the average column holds exactly totalWeight
+			Deque<Integer> small = new ArrayDeque<>();
+			Deque<Integer> large = new ArrayDeque<>();
+			for (int i = 0; i < n; i++) {
+				scaled[i] = (long) entries.get(i).weight() * n;
+				(scaled[i] < totalWeight ? small : large).push(i);
+			}
+
+			int[] thresholds = new int[n];
+			int[] aliases = new int[n];
+			while (!small.isEmpty() && !large.isEmpty()) {
+				int less = small.pop();
+				int more = large.pop();
+				thresholds[less] = (int) scaled[less];
+				aliases[less] = more;
+				scaled[more] -= totalWeight - scaled[less];
+				(scaled[more] < totalWeight ? small : large).push(more);
+			}
+
+			// Leftover columns are full (only rounding-free integer math, so these are exact)
+			for (int i : large) {
+				thresholds[i] = totalWeight;
+				aliases[i] = i;
+			}
+			for (int i : small) {
+				thresholds[i] = totalWeight;
+				aliases[i] = i;
+			}
+
+			return new AliasTable(outcomes, thresholds, aliases, totalWeight);
+		}
 	}
 }
@@ -0,0 +1,95 @@
+package thc.spawn;
+
+import com.mojang.datafixers.util.Either;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+
+/**
+ * Overworld spawn regions used by the regional cap and distribution system.
+ *
+ * <p>Carried end to end from {@link RegionDetector} through {@link RegionalCapManager},
+ * {@link SpawnDistributions} and the persistent SPAWN_REGION attachment, so the
+ * per-spawn-attempt path only does ordinal/array work.
+ *
+ * <p>The attachment is persisted by ordinal. Only ever append new constants - reordering
+ * or removing one would reinterpret regions stored on existing mobs.
+ */
+public enum SpawnRegion {
+	/**
+	 * Y &gt;= MOTION_BLOCKING heightmap. Cap 21 (30% of 70).
+	 */
+	OW_SURFACE(21),
+	/**
+	 * Y &gt;= 0 but below the heightmap. Cap 28 (40% of 70).
+	 */
+	OW_UPPER_CAVE(28),
+	/**
+	 * Y &lt; 0. Cap 35 (50% of 70).
+	 */
+	OW_LOWER_CAVE(35);
+
+	private static final SpawnRegion[] VALUES = values();
+
+	/**
+	 * Number of regions, for sizing ordinal-indexed arrays.
+	 */
+	public static final int COUNT = VALUES.length;
+
+	/**
+	 * Ordinal codec for the SPAWN_REGION attachment.
+	 *
+	 * <p>Decodes both the current ordinal form and the legacy string form
+	 * ("OW_SURFACE", ...) written before regions were an enum; always encodes the ordinal.
+	 */
+	public static final Codec<SpawnRegion> CODEC = Codec.either(Codec.INT, Codec.STRING).comapFlatMap(
+		either -> either.map(SpawnRegion::decodeOrdinal, SpawnRegion::decodeName),
+		region -> Either.left(region.ordinal())
+	);
+
+	/**
+	 * Name codec ("OW_SURFACE", ...) for human-edited data such as spawn distribution JSON.
+	 */
+	public static final Codec<SpawnRegion> NAME_CODEC = Codec.STRING.comapFlatMap(
+		SpawnRegion::decodeName,
+		SpawnRegion::name
+	);
+
+	private final int cap;
+
+	SpawnRegion(int cap) {
+		this.cap = cap;
+	}
+
+	/**
+	 * Hard-coded regional cap per user decision.
+	 * Each region is independent - no global cap applies.
+	 */
+	public int cap() {
+		return this.cap;
+	}
+
+	/**
+	 * Look up a region by ordinal.
+	 *
+	 * @return The region, or null if the ordinal is out of range
+	 */
+	public static SpawnRegion byOrdinal(int ordinal) {
+		return ordinal >= 0 && ordinal < COUNT ? VALUES[ordinal] : null;
+	}
+
+	private static DataResult<SpawnRegion> decodeOrdinal(int ordinal) {
+		SpawnRegion region = byOrdinal(ordinal);
+		return region != null
+			? DataResult.success(region)
+			: DataResult.error(() -> "Unknown spawn region ordinal: " + ordinal);
+	}
+
+	private static DataResult<SpawnRegion> decodeName(String name) {
+		for (SpawnRegion region : VALUES) {
+			if (region.name().equals(name)) {
+				return DataResult.success(region);
+			}
+		}
+		return DataResult.error(() -> "Unknown spawn region: " + name);
+	}
+}
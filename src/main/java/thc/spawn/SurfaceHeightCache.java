@@ -0,0 +1,125 @@
+package thc.spawn;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+import thc.access.SurfaceHeightCacheAccess;
+
+import java.util.Arrays;
+
+/**
+ * Per-chunk cache of MOTION_BLOCKING surface heights for region detection.
+ *
+ * <p>Each loaded LevelChunk lazily gets a 16x16 {@code short[]} of surface Y values
+ * (see LevelChunkSurfaceCacheMixin). Columns are filled on first lookup and reset by
+ * HeightmapSurfaceCacheMixin whenever the chunk's MOTION_BLOCKING heightmap changes,
+ * so a batch of spawn attempts in one chunk resolves its region with plain array reads.
+ * The array lives on the chunk and is dropped with it on unload.
+ *
+ * <p>Values match {@code level.getHeight(MOTION_BLOCKING, x, z)} exactly - misses
+ * delegate to it. Positions in chunks that are not fully loaded bypass the cache.
+ *
+ * <p>All access happens on the server thread.
+ */
+public final class SurfaceHeightCache {
+	/**
+	 * Marker for a column that has not been looked up since the last invalidation.
+	 * Real heights are within the build limit (+-2032) and can never equal it.
+	 */
+	private static final short UNCACHED = Short.MIN_VALUE;
+
+	private static long hits;
+	private static long misses;
+
+	private SurfaceHeightCache() {
+	}
+
+	/**
+	 * Get the MOTION_BLOCKING surface Y at a block column.
+	 *
+	 * @param level The server level
+	 * @param x     Block X
+	 * @param z     Block Z
+	 * @return The first Y above the highest motion-blocking block
+	 */
+	public static int getSurfaceY(ServerLevel level, int x, int z) {
+		LevelChunk chunk = level.getChunkSource().getChunkNow(x >> 4, z >> 4);
+		if (!(chunk instanceof SurfaceHeightCacheAccess access)) {
+			misses++;
+			return level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
+		}
+		return getSurfaceY(access, x, z);
+	}
+
+	/**
+	 * Get the surface Y of a column in a loaded chunk, filling the chunk's cache on a miss.
+	 *
+	 * @param chunk The chunk containing the column
+	 * @param x     Block X (chunk-local bits are used)
+	 * @param z     Block Z (chunk-local bits are used)
+	 * @return The first Y above the highest motion-blocking block
+	 */
+	static int getSurfaceY(SurfaceHeightCacheAccess chunk, int x, int z) {
+		short[] heights = access.thc$getSurfaceHeights();
+		if (heights == null) {
+			heights = new short[256];
+			Arrays.fill(heights, UNCACHED);
+			chunk.thc$setSurfaceHeights(heights);
+		}
+
+		int index = columnIndex(x, z);
+		short cached = heights[index];
+		if (cached != UNCACHED) {
+			hits++;
+			return cached;
+		}
+
+		misses++;
+		int surfaceY = chunk.thc$computeSurfaceY(x, z);
+		heights[index] = (short) surfaceY;
+		return surfaceY;
+	}
+
+	/**
+	 * Drop one column after its heightmap value changed.
+	 *
+	 * @param x Block X (chunk-local bits are used)
+	 * @param z Block Z (chunk-local bits are used)
+	 */
+	public static void invalidate(SurfaceHeightCacheAccess chunk, int x, int z) {
+		short[] heights = chunk.thc$getSurfaceHeights();
+		if (heights != null) {
+			heights[columnIndex(x, z)] = UNCACHED;
+		}
+	}
+
+	/**
+	 * Drop every column of a chunk after its heightmap was replaced wholesale.
+	 */
+	public static void invalidateAll(SurfaceHeightCacheAccess chunk) {
+		chunk.thc$setSurfaceHeights(null);
+	}
+
+	/**
+	 * Lookups answered from the cache since the last reset.
+	 */
+	public static long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Lookups that had to read the heightmap since the last reset.
+	 */
+	public static long getMisses() {
+		return misses;
+	}
+
+	public static void resetCounters() {
+		hits = 0;
+		misses = 0;
+	}
+
+	private static int columnIndex(int x, int z) {
+		return (x & 15) | (z & 15) << 4;
+	}
+}
@@ -0,0 +1,88 @@
+package thc.threat;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.server.level.ServerPlayer;
+import thc.access.ThreatPlayerIndexAccess;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Per-session dense index for players, used as the key of {@link ThreatTable}.
+ *
+ * <p>Each player UUID gets a small int the first time it is seen and keeps it until the
+ * server stops, so indices stored in mob threat tables stay valid across reconnects and
+ * respawns. The index is cached on the ServerPlayer itself, so resolving a player to an
+ * index is a field read and resolving an index to a player is an array read - neither
+ * hashes a UUID on the hot path.
+ *
+ * <p>All access happens on the server thread.
+ */
+public final class PlayerIndex {
+	private static final Object2IntOpenHashMap<UUID> INDICES = new Object2IntOpenHashMap<>();
+	private static ServerPlayer[] players = new ServerPlayer[16];
+
+	static {
+		INDICES.defaultReturnValue(-1);
+	}
+
+	private PlayerIndex() {
+	}
+
+	/**
+	 * Registers join, respawn, disconnect and shutdown hooks that keep the index-to-player
+	 * table pointing at the live ServerPlayer instance.
+	 */
+	public static void register() {
+		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> bind(handler.getPlayer()));
+		ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> bind(newPlayer));
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
+			int index = of(handler.getPlayer());
+			if (players[index] == handler.getPlayer()) {
+				players[index] = null;
+			}
+		});
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+			INDICES.clear();
+			Arrays.fill(players, null);
+		});
+	}
+
+	/**
+	 * Get the session index of a player, assigning one on first sight.
+	 */
+	public static int of(ServerPlayer player) {
+		ThreatPlayerIndexAccess access = (ThreatPlayerIndexAccess) player;
+		int cached = access.thc$getThreatIndex();
+		if (cached != 0) {
+			return cached - 1;
+		}
+		return bind(player);
+	}
+
+	/**
+	 * Get the online player for a session index.
+	 *
+	 * @return The player, or null if that player is offline
+	 */
+	public static ServerPlayer get(int index) {
+		return index < players.length ? players[index] : null;
+	}
+
+	private static int bind(ServerPlayer player) {
+		int index = INDICES.getInt(player.getUUID());
+		if (index < 0) {
+			index = INDICES.size();
+			INDICES.put(player.getUUID(), index);
+		}
+		if (index >= players.length) {
+			players = Arrays.copyOf(players, Math.max(index + 1, players.length * 2));
+		}
+		players[index] = player;
+		((ThreatPlayerIndexAccess) player).thc$setThreatIndex(index + 1);
+		return index;
+	}
+}
@@ -1,12 +1,17 @@
 package thc.threat;
 
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.player.Player;
 import thc.THCAttachments;
 
-import java.util.Map;
-import java.util.UUID;
-
+/**
+ * Per-mob threat bookkeeping. Threat is stored in a {@link ThreatTable} attachment keyed by
+ * {@link PlayerIndex}, so none of these calls box values or hash player UUIDs.
+ *
+ * <p>Decay is not done here: mobs with threat are registered with {@link ThreatRegistry},
+ * which decays them in per-level batches.
+ */
 public final class ThreatManager {
 	private ThreatManager() {
 	}
@@ -14,38 +19,35 @@ public final class ThreatManager {
 	/**
 	 * Add threat from a player to a mob.
 	 */
-	public static void addThreat(Mob mob, UUID playerUuid, double amount) {
+	public static void addThreat(Mob mob, ServerPlayer player, double amount) {
 		if (amount <= 0) return;
-		Map<UUID, Double> threats = mob.getAttachedOrCreate(THCAttachments.MOB_THREAT);
-		double current = threats.getOrDefault(playerUuid, 0.0);
-		threats.put(playerUuid, current + amount);
+		ThreatTable threats = mob.getAttachedOrCreate(THCAttachments.MOB_THREAT);
+		threats.add(PlayerIndex.of(player), amount);
+		ThreatRegistry.schedule(mob, threats);
 	}
 
 	/**
 	 * Get current threat level for a player on a mob.
 	 */
-	public static double getThreat(Mob mob, UUID playerUuid) {
-		Map<UUID, Double> threats = mob.getAttached(THCAttachments.MOB_THREAT);
-		if (threats == null) return 0.0;
-		return threats.getOrDefault(playerUuid, 0.0);
+	public static double getThreat(Mob mob, Player player) {
+		ThreatTable threats = mob.getAttached(THCAttachments.MOB_THREAT);
+		if (threats == null || !(player instanceof ServerPlayer serverPlayer)) return 0.0;
+		return threats.get(PlayerIndex.of(serverPlayer));
 	}
 
 	/**
 	 * Set threat to a specific value.
 	 */
-	public static void setThreat(Mob mob, UUID playerUuid, double amount) {
-		Map<UUID, Double> threats = mob.getAttachedOrCreate(THCAttachments.MOB_THREAT);
-		if (amount <= 0) {
-			threats.remove(playerUuid);
-		} else {
-			threats.put(playerUuid, amount);
-		}
+	public static void setThreat(Mob mob, ServerPlayer player, double amount) {
+		ThreatTable threats = mob.getAttachedOrCreate(THCAttachments.MOB_THREAT);
+		threats.set(PlayerIndex.of(player), amount);
+		ThreatRegistry.schedule(mob, threats);
 	}
 
 	/**
-	 * Get the threat map for a mob (for iteration).
+	 * Get the threat table for a mob (for iteration).
 	 */
-	public static Map<UUID, Double> getThreatMap(Mob mob) {
+	public static ThreatTable getThreatTable(Mob mob) {
 		return mob.getAttachedOrCreate(THCAttachments.MOB_THREAT);
 	}
 
@@ -53,74 +55,61 @@ public final class ThreatManager {
 	 * Check if mob has any threat registered.
 	 */
 	public static boolean hasThreat(Mob mob) {
-		Map<UUID, Double> threats = mob.getAttached(THCAttachments.MOB_THREAT);
+		ThreatTable threats = mob.getAttached(THCAttachments.MOB_THREAT);
 		return threats != null && !threats.isEmpty();
 	}
 
-	/**
-	 * Decay threat for all players by 1 per second.
-	 * Should be called frequently (e.g., in goal canUse/canContinueToUse).
-	 * Uses tick-based check to only decay once per second (20 ticks).
-	 */
-	public static void decayThreat(Mob mob) {
-		if (mob.level().isClientSide()) return;
-
-		long now = mob.level().getGameTime();
-		long lastDecay = mob.getAttachedOrCreate(THCAttachments.THREAT_LAST_DECAY);
-
-		// Only decay once per second (20 ticks)
-		if (now - lastDecay < 20) {
-			return;
-		}
-
-		Map<UUID, Double> threats = mob.getAttached(THCAttachments.MOB_THREAT);
-		if (threats == null || threats.isEmpty()) {
-			return;
-		}
-
-		// Decay all threat values by 1
-		threats.replaceAll((uuid, threat) -> threat - 1.0);
-
-		// Remove entries at or below zero
-		threats.entrySet().removeIf(entry -> entry.getValue() <= 0.0);
-
-		mob.setAttached(THCAttachments.THREAT_LAST_DECAY, now);
-	}
-
 	/**
 	 * Find the player with highest threat that meets minimum threshold.
 	 * Returns null if no player meets the threshold or is valid target.
+	 *
+	 * <p>The cached highest entry answers the common case directly; the table is only
+	 * scanned when that player is offline, dead, a spectator or not attackable.
 	 */
 	public static Player getHighestThreatTarget(Mob mob, double minThreat) {
-		Map<UUID, Double> threats = mob.getAttached(THCAttachments.MOB_THREAT);
+		ThreatTable threats = mob.getAttached(THCAttachments.MOB_THREAT);
 		if (threats == null || threats.isEmpty()) {
 			return null;
 		}
 
+		int top = threats.highestSlot();
+		if (threats.threatAt(top) < minThreat) {
+			// Nothing can meet the threshold
+			return null;
+		}
+		ServerPlayer topPlayer = PlayerIndex.get(threats.playerAt(top));
+		if (isValidTarget(mob, topPlayer)) {
+			return topPlayer;
+		}
+
 		Player highestPlayer = null;
 		double highestThreat = minThreat;
 
-		for (Map.Entry<UUID, Double> entry : threats.entrySet()) {
-			if (entry.getValue() < minThreat) {
+		for (int slot = 0; slot < threats.size(); slot++) {
+			double threat = threats.threatAt(slot);
+			if (slot == top || threat < minThreat) {
 				continue;
 			}
 
-			Player player = mob.level().getPlayerByUUID(entry.getKey());
-			if (player == null || !player.isAlive() || player.isSpectator()) {
+			ServerPlayer player = PlayerIndex.get(threats.playerAt(slot));
+			if (!isValidTarget(mob, player)) {
 				continue;
 			}
 
-			// Check if mob can actually attack this player
-			if (!mob.canAttack(player)) {
-				continue;
-			}
-
-			if (entry.getValue() > highestThreat || highestPlayer == null) {
-				highestThreat = entry.getValue();
+			if (threat > highestThreat || highestPlayer == null) {
+				highestThreat = threat;
 				highestPlayer = player;
 			}
 		}
 
 		return highestPlayer;
 	}
+
+	private static boolean isValidTarget(Mob mob, ServerPlayer player) {
+		if (player == null || !player.isAlive() || player.isSpectator()) {
+			return false;
+		}
+		// Check if mob can actually attack this player
+		return player.level() == mob.level() && mob.canAttack(player);
+	}
 }
@@ -0,0 +1,167 @@
+package thc.threat;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.phys.AABB;
+import thc.jfr.ThreatPropagationEvent;
+import thc.tick.SubsystemTimings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-tick batched proximity threat (THRT-02).
+ *
+ * <p>Every successful player hit on a mob grants {@code ceil(damage / 4)} threat to each
+ * hostile or neutral mob within 5 blocks of the attacker, except the mob that was hit.
+ * Instead of one entity query per hit, hits are queued per level and per attacker and
+ * resolved at the end of the level tick with a single query per attacker into a reused
+ * buffer. Each nearby mob then receives one merged delta: the attacker's total proximity
+ * threat for the tick minus the threat of hits it took directly.
+ *
+ * <p>The query uses the attacker's position at the end of the tick. Within one tick the
+ * difference from the position at hit time is negligible.
+ *
+ * <p>All access happens on the server thread.
+ */
+public final class ThreatPropagation {
+	/**
+	 * Radius around the attacker that receives proximity threat.
+	 */
+	private static final double RADIUS = 5.0;
+
+	private static final EntityTypeTest<Entity, Mob> MOBS = EntityTypeTest.forClass(Mob.class);
+
+	private static final Map<ResourceKey<Level>, Reference2ObjectLinkedOpenHashMap<ServerPlayer, AttackerHits>> PENDING = new HashMap<>();
+
+	/**
+	 * Reused query result buffer.
+	 */
+	private static final List<Mob> NEARBY = new ArrayList<>();
+
+	private ThreatPropagation() {
+	}
+
+	/**
+	 * Registers the end-of-tick flush and shutdown cleanup. Called during mod initialization.
+	 */
+	public static void register() {
+		ServerTickEvents.END_WORLD_TICK.register(ThreatPropagation::flush);
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> PENDING.clear());
+	}
+
+	/**
+	 * Queue proximity threat for a successful player hit.
+	 *
+	 * @param level      The level the hit happened in
+	 * @param attacker   The player who dealt the damage
+	 * @param damagedMob The mob that was hit (excluded from this hit's proximity threat)
+	 * @param damage     The damage dealt
+	 */
+	public static void queueHit(ServerLevel level, ServerPlayer attacker, Mob damagedMob, float damage) {
+		double threat = Math.ceil(damage / 4.0);
+		if (threat <= 0) {
+			return;
+		}
+		PENDING.computeIfAbsent(level.dimension(), key -> new Reference2ObjectLinkedOpenHashMap<>())
+			.computeIfAbsent(attacker, key -> new AttackerHits())
+			.add(damagedMob, threat);
+	}
+
+	private static void flush(ServerLevel level) {
+		Reference2ObjectLinkedOpenHashMap<ServerPlayer, AttackerHits> pending = PENDING.get(level.dimension());
+		if (pending == null || pending.isEmpty()) {
+			return;
+		}
+
+		ThreatPropagationEvent event = new ThreatPropagationEvent();
+		event.begin();
+		long start = SubsystemTimings.start();
+		int updated = 0;
+		for (Map.Entry<ServerPlayer, AttackerHits> entry : pending.reference2ObjectEntrySet()) {
+			ServerPlayer attacker = entry.getKey();
+			if (attacker.isRemoved() || attacker.level() != level) {
+				continue;
+			}
+			AttackerHits hits = entry.getValue();
+
+			AABB area = attacker.getBoundingBox().inflate(RADIUS);
+			NEARBY.clear();
+			level.getEntities(MOBS, area, ThreatPropagation::isHostileOrNeutral, NEARBY);
+			for (Mob nearby : NEARBY) {
+				double delta = hits.total - hits.directThreat(nearby);
+				if (delta > 0) {
+					ThreatManager.addThreat(nearby, attacker, delta);
+					updated++;
+				}
+			}
+		}
+
+		if (event.shouldCommit()) {
+			event.dimension = level.dimension().identifier().toString();
+			event.attackers = pending.size();
+			event.mobsUpdated = updated;
+			event.commit();
+		}
+		SubsystemTimings.stop(SubsystemTimings.Subsystem.THREAT_PROPAGATION, start);
+
+		NEARBY.clear();
+		pending.clear();
+	}
+
+	private static boolean isHostileOrNeutral(Mob mob) {
+		MobCategory category = mob.getType().getCategory();
+		return category == MobCategory.MONSTER || category == MobCategory.CREATURE;
+		// Note: CREATURE includes wolves, iron golems which are neutral
+		// MONSTER is hostile mobs
+	}
+
+	/**
+	 * One attacker's hits in the current tick: total proximity threat plus the threat of each
+	 * hit keyed by the mob that took it directly (merged per mob).
+	 */
+	private static final class AttackerHits {
+		private double total;
+		private Mob[] targets = new Mob[4];
+		private double[] targetThreat = new double[4];
+		private int targetCount;
+
+		void add(Mob target, double threat) {
+			this.total += threat;
+			for (int i = 0; i < this.targetCount; i++) {
+				if (this.targets[i] == target) {
+					this.targetThreat[i] += threat;
+					return;
+				}
+			}
+			if (this.targetCount == this.targets.length) {
+				this.targets = Arrays.copyOf(this.targets, this.targetCount * 2);
+				this.targetThreat = Arrays.copyOf(this.targetThreat, this.targetCount * 2);
+			}
+			this.targets[this.targetCount] = target;
+			this.targetThreat[this.targetCount] = threat;
+			this.targetCount++;
+		}
+
+		double directThreat(Mob mob) {
+			for (int i = 0; i < this.targetCount; i++) {
+				if (this.targets[i] == mob) {
+					return this.targetThreat[i];
+				}
+			}
+			return 0.0;
+		}
+	}
+}
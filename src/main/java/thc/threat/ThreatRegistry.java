@@ -0,0 +1,137 @@
+package thc.threat;
+
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.Level;
+import thc.THCAttachments;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-level registry of mobs holding threat, decayed centrally in batches.
+ *
+ * <p>Only mobs with a non-empty {@link ThreatTable} are registered. Each mob is placed in one
+ * of {@link #BUCKETS} buckets by entity id, and every level tick decays one bucket by
+ * {@link #DECAY_PER_SECOND}. Every mob therefore decays exactly once per second and the work
+ * is spread evenly over the second instead of landing on one tick. Mobs whose threat runs
+ * out leave the registry; mobs that unload are dropped immediately, and mobs that load with
+ * threat (e.g. after changing dimension, which carries the table over) are registered again.
+ *
+ * <p>Targeting goals read the decayed tables directly and never decay anything themselves.
+ *
+ * <p>All access happens on the server thread.
+ */
+public final class ThreatRegistry {
+	/**
+	 * One bucket per tick of the one-second decay period.
+	 */
+	private static final int BUCKETS = 20;
+
+	private static final double DECAY_PER_SECOND = 1.0;
+
+	private static final Map<ResourceKey<Level>, ThreatRegistry> REGISTRIES = new HashMap<>();
+
+	@SuppressWarnings("unchecked")
+	private final ReferenceOpenHashSet<Mob>[] buckets = new ReferenceOpenHashSet[BUCKETS];
+
+	private ThreatRegistry() {
+		for (int i = 0; i < BUCKETS; i++) {
+			this.buckets[i] = new ReferenceOpenHashSet<>();
+		}
+	}
+
+	/**
+	 * Registers decay tick, load, unload and shutdown hooks. Called during mod initialization.
+	 */
+	public static void register() {
+		ServerTickEvents.END_WORLD_TICK.register(level -> {
+			ThreatRegistry registry = REGISTRIES.get(level.dimension());
+			if (registry != null) {
+				registry.decayBucket((int) (level.getGameTime() % BUCKETS));
+			}
+		});
+
+		ServerEntityEvents.ENTITY_LOAD.register((entity, level) -> {
+			if (entity instanceof Mob mob) {
+				ThreatTable threats = mob.getAttached(THCAttachments.MOB_THREAT);
+				if (threats != null) {
+					schedule(mob, threats);
+				}
+			}
+		});
+
+		ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+			if (entity instanceof Mob mob) {
+				ThreatTable threats = mob.getAttached(THCAttachments.MOB_THREAT);
+				if (threats != null) {
+					ThreatRegistry registry = REGISTRIES.get(level.dimension());
+					if (registry != null) {
+						registry.bucketOf(mob).remove(mob);
+					}
+					// On a dimension change the new entity may already have taken over the table
+					if (threats.scheduledMob == mob) {
+						threats.scheduledMob = null;
+					}
+				}
+			}
+		});
+
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> REGISTRIES.clear());
+	}
+
+	/**
+	 * Register a mob whose threat table just became non-empty. No-op if already registered.
+	 */
+	static void schedule(Mob mob, ThreatTable threats) {
+		if (threats.scheduledMob == mob || threats.isEmpty() || !(mob.level() instanceof ServerLevel level)) {
+			return;
+		}
+		REGISTRIES.computeIfAbsent(level.dimension(), key -> new ThreatRegistry()).bucketOf(mob).add(mob);
+		threats.scheduledMob = mob;
+	}
+
+	/**
+	 * Number of mobs currently holding threat in a level.
+	 */
+	public static int trackedCount(ServerLevel level) {
+		ThreatRegistry registry = REGISTRIES.get(level.dimension());
+		if (registry == null) {
+			return 0;
+		}
+		int count = 0;
+		for (ReferenceOpenHashSet<Mob> bucket : registry.buckets) {
+			count += bucket.size();
+		}
+		return count;
+	}
+
+	private ReferenceOpenHashSet<Mob> bucketOf(Mob mob) {
+		return this.buckets[Math.floorMod(mob.getId(), BUCKETS)];
+	}
+
+	private void decayBucket(int index) {
+		ObjectIterator<Mob> iterator = this.buckets[index].iterator();
+		while (iterator.hasNext()) {
+			Mob mob = iterator.next();
+			ThreatTable threats = mob.getAttached(THCAttachments.MOB_THREAT);
+			if (threats == null) {
+				iterator.remove();
+				continue;
+			}
+			threats.decay(DECAY_PER_SECOND);
+			if (threats.isEmpty()) {
+				iterator.remove();
+				if (threats.scheduledMob == mob) {
+					threats.scheduledMob = null;
+				}
+			}
+		}
+	}
+}
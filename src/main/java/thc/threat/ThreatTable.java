@@ -0,0 +1,139 @@
+package thc.threat;
+
+import java.util.Arrays;
+import net.minecraft.world.entity.Mob;
+
+/**
+ * Compact per-mob threat storage: parallel primitive arrays keyed by {@link PlayerIndex}.
+ *
+ * <p>Mobs are typically threatened by a handful of players, so lookups are a linear scan
+ * over a few ints, updates never box, decay runs in place, and the highest-threat slot is
+ * cached until the table changes in a way that could move it.
+ */
+public final class ThreatTable {
+	private int[] players = new int[4];
+	private double[] threats = new double[4];
+	private int size;
+
+	/**
+	 * Slot of the highest threat, or -1 if it needs recomputing.
+	 */
+	private int argmax = -1;
+
+	/**
+	 * The mob this table is registered with {@link ThreatRegistry} under, or null. Kept per
+	 * entity because the table object moves to the new entity when a mob changes dimension.
+	 */
+	Mob scheduledMob;
+
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public int playerAt(int slot) {
+		return this.players[slot];
+	}
+
+	public double threatAt(int slot) {
+		return this.threats[slot];
+	}
+
+	public double get(int player) {
+		int slot = slotOf(player);
+		return slot < 0 ? 0.0 : this.threats[slot];
+	}
+
+	public void add(int player, double amount) {
+		int slot = slotOf(player);
+		if (slot < 0) {
+			slot = append(player);
+		}
+		this.threats[slot] += amount;
+		if (this.argmax >= 0 && this.threats[slot] > this.threats[this.argmax]) {
+			this.argmax = slot;
+		}
+	}
+
+	public void set(int player, double amount) {
+		int slot = slotOf(player);
+		if (amount <= 0) {
+			if (slot >= 0) {
+				removeAt(slot);
+			}
+			return;
+		}
+		if (slot < 0) {
+			slot = append(player);
+		}
+		this.threats[slot] = amount;
+		this.argmax = -1;
+	}
+
+	/**
+	 * Subtract {@code amount} from every entry, dropping entries at or below zero.
+	 * A uniform subtraction never changes which entry is highest unless entries are removed.
+	 */
+	public void decay(double amount) {
+		boolean removed = false;
+		for (int i = this.size - 1; i >= 0; i--) {
+			this.threats[i] -= amount;
+			if (this.threats[i] <= 0.0) {
+				removeAt(i);
+				removed = true;
+			}
+		}
+		if (removed) {
+			this.argmax = -1;
+		}
+	}
+
+	/**
+	 * Slot holding the highest threat, or -1 if the table is empty.
+	 */
+	public int highestSlot() {
+		if (this.argmax < 0 && this.size > 0) {
+			int best = 0;
+			for (int i = 1; i < this.size; i++) {
+				if (this.threats[i] > this.threats[best]) {
+					best = i;
+				}
+			}
+			this.argmax = best;
+		}
+		return this.argmax;
+	}
+
+	private int slotOf(int player) {
+		for (int i = 0; i < this.size; i++) {
+			if (this.players[i] == player) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int append(int player) {
+		if (this.size == this.players.length) {
+			this.players = Arrays.copyOf(this.players, this.size * 2);
+			this.threats = Arrays.copyOf(this.threats, this.size * 2);
+		}
+		int slot = this.size++;
+		this.players[slot] = player;
+		this.threats[slot] = 0.0;
+		return slot;
+	}
+
+	/**
+	 * Swap-remove; invalidates the cached argmax since slots move.
+	 */
+	private void removeAt(int slot) {
+		int last = --this.size;
+		this.players[slot] = this.players[last];
+		this.threats[slot] = this.threats[last];
+		this.argmax = -1;
+	}
+}
@@ -30,9 +30,6 @@ public class ThreatTargetGoal extends TargetGoal {
 
 	@Override
 	public boolean canUse() {
-		// Decay threat before checking (lazy decay)
-		ThreatManager.decayThreat(this.mob);
-
 		// Find highest threat target
 		Player target = ThreatManager.getHighestThreatTarget(this.mob, MIN_THREAT);
 		if (target != null) {
@@ -54,11 +51,8 @@ public class ThreatTargetGoal extends TargetGoal {
 			return false;
 		}
 
-		// Decay threat
-		ThreatManager.decayThreat(this.mob);
-
 		// Check if current target still has sufficient threat
-		double currentThreat = ThreatManager.getThreat(this.mob, this.currentTarget.getUUID());
+		double currentThreat = ThreatManager.getThreat(this.mob, this.currentTarget);
 		if (currentThreat < MIN_THREAT) {
 			// Current target lost threat, find new target
 			Player newTarget = ThreatManager.getHighestThreatTarget(this.mob, MIN_THREAT);
@@ -73,7 +67,7 @@ public class ThreatTargetGoal extends TargetGoal {
 		// Check for revenge switch (THREAT-06: revenge allows immediate switch)
 		LivingEntity revenge = this.mob.getLastHurtByMob();
 		if (revenge instanceof Player revengePlayer && revengePlayer != this.currentTarget) {
-			double revengeThreat = ThreatManager.getThreat(this.mob, revengePlayer.getUUID());
+			double revengeThreat = ThreatManager.getThreat(this.mob, revengePlayer);
 			if (revengeThreat >= MIN_THREAT) {
 				this.currentTarget = revengePlayer;
 				this.mob.setTarget(this.currentTarget);
@@ -84,7 +78,7 @@ public class ThreatTargetGoal extends TargetGoal {
 		// Check for strictly higher threat (THREAT-06: only switch if strictly higher)
 		Player highestTarget = ThreatManager.getHighestThreatTarget(this.mob, MIN_THREAT);
 		if (highestTarget != null && highestTarget != this.currentTarget) {
-			double highestThreat = ThreatManager.getThreat(this.mob, highestTarget.getUUID());
+			double highestThreat = ThreatManager.getThreat(this.mob, highestTarget);
 			if (highestThreat > currentThreat) { // Strictly greater
 				this.currentTarget = highestTarget;
 				this.mob.setTarget(this.currentTarget);
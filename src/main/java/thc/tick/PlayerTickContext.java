@@ -0,0 +1,107 @@
+package thc.tick;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+import thc.downed.DownedSpatialIndex;
+import thc.downed.DownedState;
+
+/**
+ * Per-tick state shared by all {@link PlayerTickPhase}s.
+ *
+ * <p>The current player's downed state is read once when the pipeline selects them, and
+ * neighbour queries go through {@link DownedSpatialIndex}, which is brought up to date at
+ * the start of the tick. A single instance is reused across ticks; phases must not keep
+ * references to it or to lists it returns.
+ */
+public final class PlayerTickContext {
+	private MinecraftServer server;
+	private List<ServerPlayer> players = List.of();
+	private final ArrayList<DownedSpatialIndex.Entry> nearby = new ArrayList<>();
+
+	private ServerPlayer player;
+	private boolean downed;
+	private Vec3 downedLocation;
+
+	PlayerTickContext() {
+	}
+
+	/**
+	 * Captures the player list and rebuilds the downed index if it changed.
+	 */
+	void beginTick(MinecraftServer server) {
+		this.server = server;
+		this.players = server.getPlayerList().getPlayers();
+		DownedSpatialIndex.ensureBuilt(server);
+	}
+
+	/**
+	 * Rebuilds the downed index if phases changed downed state since {@link #beginTick}.
+	 */
+	void refresh() {
+		DownedSpatialIndex.ensureBuilt(server);
+	}
+
+	/**
+	 * Points the context at the player at {@code slot} in {@link #players()}.
+	 */
+	void select(int slot) {
+		this.player = players.get(slot);
+		this.downed = DownedState.isDowned(player);
+		this.downedLocation = downed ? DownedState.getDownedLocation(player) : null;
+	}
+
+	void endTick() {
+		player = null;
+		downedLocation = null;
+		nearby.clear();
+	}
+
+	public MinecraftServer server() {
+		return server;
+	}
+
+	public List<ServerPlayer> players() {
+		return players;
+	}
+
+	/**
+	 * The player currently being ticked.
+	 */
+	public ServerPlayer player() {
+		return player;
+	}
+
+	/**
+	 * Whether the current player is downed.
+	 */
+	public boolean isDowned() {
+		return downed;
+	}
+
+	/**
+	 * The current player's downed location, or null if not downed.
+	 */
+	public Vec3 downedLocation() {
+		return downedLocation;
+	}
+
+	/**
+	 * Whether anyone on the server is downed. Lets phases skip neighbour queries entirely.
+	 */
+	public boolean anyDowned() {
+		return !DownedSpatialIndex.isEmpty();
+	}
+
+	/**
+	 * Downed players in the current player's level within {@code radius} of the point.
+	 * The returned list is reused and only valid until the next call.
+	 */
+	public List<DownedSpatialIndex.Entry> downedNear(double x, double y, double z, double radius) {
+		nearby.clear();
+		DownedSpatialIndex.collectWithin(player.level().dimension(), x, y, z, radius, nearby);
+		return nearby;
+	}
+}
@@ -0,0 +1,35 @@
+package thc.tick;
+
+/**
+ * One named step of the per-player server tick.
+ *
+ * <p>Phases run in registration order for each player inside a single pass over the
+ * player list. {@link #endTick} runs once after every player has been visited, for work
+ * that needs the whole tick's per-player results (e.g. completing revivals). A final
+ * per-player pass, {@link #finishPlayer}, runs after every phase's endTick and sees the
+ * tick's settled state, which is where client sync belongs.
+ */
+public interface PlayerTickPhase {
+	/**
+	 * Short name shown by {@code /thc profile}.
+	 */
+	String name();
+
+	/**
+	 * Runs this phase for the context's current player.
+	 */
+	void tickPlayer(PlayerTickContext context);
+
+	/**
+	 * Runs once per tick after all players. Default is a no-op.
+	 */
+	default void endTick(PlayerTickContext context) {
+	}
+
+	/**
+	 * Runs for the context's current player after every phase's {@link #endTick}. Default
+	 * is a no-op.
+	 */
+	default void finishPlayer(PlayerTickContext context) {
+	}
+}
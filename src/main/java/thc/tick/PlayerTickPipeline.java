@@ -0,0 +1,140 @@
+package thc.tick;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * Single END_SERVER_TICK pass over the online players.
+ *
+ * <p>Features register {@link PlayerTickPhase}s instead of their own tick handlers.
+ * Each tick the pipeline snapshots downed state into a shared {@link PlayerTickContext},
+ * then visits every player once, running the phases in registration order, then runs
+ * each phase's {@link PlayerTickPhase#endTick}, then visits every player again for
+ * {@link PlayerTickPhase#finishPlayer}. Time spent in each phase is accumulated
+ * with {@link System#nanoTime()} and reported by {@code /thc profile}.
+ */
+public final class PlayerTickPipeline {
+	private static final List<PlayerTickPhase> PHASES = new ArrayList<>();
+	private static final PlayerTickContext CONTEXT = new PlayerTickContext();
+
+	/**
+	 * Per-phase timings, indexed like {@link #PHASES}. Index {@code PHASES.size()} is the
+	 * snapshot step.
+	 */
+	private static long[] lastNanos = new long[1];
+	private static long[] totalNanos = new long[1];
+	private static long[] maxNanos = new long[1];
+	private static long sampledTicks;
+	private static int lastPlayerCount;
+
+	private PlayerTickPipeline() {
+	}
+
+	/**
+	 * Registers the tick handler. Called during mod initialization, after all phases
+	 * have been added.
+	 */
+	public static void register() {
+		ServerTickEvents.END_SERVER_TICK.register(PlayerTickPipeline::tick);
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> resetTimings());
+	}
+
+	/**
+	 * Appends a phase. Phases run in the order they are added.
+	 */
+	public static void addPhase(PlayerTickPhase phase) {
+		PHASES.add(phase);
+		int slots = PHASES.size() + 1;
+		lastNanos = new long[slots];
+		totalNanos = new long[slots];
+		maxNanos = new long[slots];
+		sampledTicks = 0;
+	}
+
+	private static void tick(MinecraftServer server) {
+		int phaseCount = PHASES.size();
+		long[] tickNanos = lastNanos;
+		Arrays.fill(tickNanos, 0L);
+
+		long start = System.nanoTime();
+		CONTEXT.beginTick(server);
+		tickNanos[phaseCount] = System.nanoTime() - start;
+
+		int playerCount = CONTEXT.players().size();
+		for (int slot = 0; slot < playerCount; slot++) {
+			CONTEXT.select(slot);
+			for (int i = 0; i < phaseCount; i++) {
+				long phaseStart = System.nanoTime();
+				PHASES.get(i).tickPlayer(CONTEXT);
+				tickNanos[i] += System.nanoTime() - phaseStart;
+			}
+		}
+
+		for (int i = 0; i < phaseCount; i++) {
+			long phaseStart = System.nanoTime();
+			PHASES.get(i).endTick(CONTEXT);
+			tickNanos[i] += System.nanoTime() - phaseStart;
+		}
+
+		// endTick may have changed downed state (revivals), so refresh before the final pass
+		CONTEXT.refresh();
+		for (int slot = 0; slot < playerCount; slot++) {
+			CONTEXT.select(slot);
+			for (int i = 0; i < phaseCount; i++) {
+				long phaseStart = System.nanoTime();
+				PHASES.get(i).finishPlayer(CONTEXT);
+				tickNanos[i] += System.nanoTime() - phaseStart;
+			}
+		}
+		CONTEXT.endTick();
+
+		for (int i = 0; i <= phaseCount; i++) {
+			totalNanos[i] += tickNanos[i];
+			if (tickNanos[i] > maxNanos[i]) {
+				maxNanos[i] = tickNanos[i];
+			}
+		}
+		sampledTicks++;
+		lastPlayerCount = playerCount;
+	}
+
+	/**
+	 * Clears accumulated averages and maxima.
+	 */
+	public static void resetTimings() {
+		Arrays.fill(totalNanos, 0L);
+		Arrays.fill(maxNanos, 0L);
+		sampledTicks = 0;
+	}
+
+	/**
+	 * Timing rows for every phase, snapshot step last.
+	 */
+	public static List<PhaseTiming> timings() {
+		List<PhaseTiming> rows = new ArrayList<>(PHASES.size() + 1);
+		for (int i = 0; i <= PHASES.size(); i++) {
+			String name = i < PHASES.size() ? PHASES.get(i).name() : "snapshot";
+			long average = sampledTicks == 0 ? 0L : totalNanos[i] / sampledTicks;
+			rows.add(new PhaseTiming(name, lastNanos[i], average, maxNanos[i]));
+		}
+		return rows;
+	}
+
+	public static long sampledTicks() {
+		return sampledTicks;
+	}
+
+	public static int lastPlayerCount() {
+		return lastPlayerCount;
+	}
+
+	/**
+	 * Nanoseconds spent in one phase: last tick, mean since reset, worst tick since reset.
+	 */
+	public record PhaseTiming(String name, long lastNanos, long averageNanos, long maxNanos) {
+	}
+}
@@ -0,0 +1,65 @@
+package thc.tick;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import thc.schedule.TickScheduler;
+import thc.spawn.SurfaceHeightCache;
+
+/**
+ * {@code /thc profile} command showing per-phase player tick cost and the surface height
+ * cache hit rate. {@code /thc profile reset} clears the averages, maxima and cache counters. Attached to the
+ * operator-only root by {@link thc.THCCommand}.
+ */
+public final class ProfileCommand {
+	private ProfileCommand() {}
+
+	public static LiteralArgumentBuilder<CommandSourceStack> node() {
+		return Commands.literal("profile")
+			.executes(ProfileCommand::execute)
+			.then(Commands.literal("reset")
+				.executes(ProfileCommand::reset));
+	}
+
+	private static int execute(CommandContext<CommandSourceStack> context) {
+		CommandSourceStack source = context.getSource();
+		source.sendSuccess(
+			() -> Component.literal("Player tick over " + PlayerTickPipeline.sampledTicks() + " ticks, "
+				+ PlayerTickPipeline.lastPlayerCount() + " players (last / avg / max us):")
+				.withStyle(ChatFormatting.GOLD),
+			false
+		);
+		for (PlayerTickPipeline.PhaseTiming timing : PlayerTickPipeline.timings()) {
+			String line = String.format("  %-10s %8.1f %8.1f %8.1f",
+				timing.name(),
+				timing.lastNanos() / 1000.0,
+				timing.averageNanos() / 1000.0,
+				timing.maxNanos() / 1000.0);
+			source.sendSuccess(() -> Component.literal(line), false);
+		}
+		source.sendSuccess(
+			() -> Component.literal("  scheduler  " + TickScheduler.pendingCount() + " pending tasks")
+				.withStyle(ChatFormatting.GRAY),
+			false
+		);
+		long hits = SurfaceHeightCache.getHits();
+		long lookups = hits + SurfaceHeightCache.getMisses();
+		String surface = String.format("  surface    %d lookups, %.1f%% cached",
+			lookups, lookups == 0 ? 0.0 : hits * 100.0 / lookups);
+		source.sendSuccess(() -> Component.literal(surface).withStyle(ChatFormatting.GRAY), false);
+		return 1;
+	}
+
+	private static int reset(CommandContext<CommandSourceStack> context) {
+		PlayerTickPipeline.resetTimings();
+		SurfaceHeightCache.resetCounters();
+		context.getSource().sendSuccess(
+			() -> Component.literal("Player tick timings and cache counters reset").withStyle(ChatFormatting.GREEN),
+			false
+		);
+		return 1;
+	}
+}
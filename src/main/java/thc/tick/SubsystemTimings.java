@@ -0,0 +1,77 @@
+package thc.tick;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Opt-in wall-clock accumulators for subsystems that run outside the
+ * {@link PlayerTickPipeline}, bracketed at the same points as their JFR events.
+ *
+ * <p>Off by default: {@link #start()} returns 0 and {@link #stop} does nothing, so an
+ * instrumented call pays one volatile read. When enabled (by the perf gametests), time
+ * accumulates until {@link #drain} collects and resets it. Times are inclusive, so a
+ * village check made during a mining fatigue check counts towards both.
+ */
+public final class SubsystemTimings {
+	public enum Subsystem {
+		THREAT_PROPAGATION("threatPropagation"),
+		SPAWN_REPLACEMENT("spawnReplacement"),
+		CLAIM_CHECK("claimCheck"),
+		VILLAGE_CHECK("villageCheck"),
+		MINING_FATIGUE("miningFatigue");
+
+		private final String label;
+
+		Subsystem(String label) {
+			this.label = label;
+		}
+
+		public String label() {
+			return this.label;
+		}
+	}
+
+	private static final Subsystem[] SUBSYSTEMS = Subsystem.values();
+
+	/**
+	 * Accumulated nanoseconds per subsystem. Atomic because claim and village checks can
+	 * run off the server thread during world generation.
+	 */
+	private static final AtomicLongArray NANOS = new AtomicLongArray(SUBSYSTEMS.length);
+	private static volatile boolean enabled;
+
+	private SubsystemTimings() {
+	}
+
+	public static void setEnabled(boolean value) {
+		enabled = value;
+	}
+
+	/**
+	 * Start of a timed section, or 0 when timing is off.
+	 */
+	public static long start() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * End of a timed section begun with {@link #start()}.
+	 */
+	public static void stop(Subsystem subsystem, long start) {
+		if (start != 0L) {
+			NANOS.addAndGet(subsystem.ordinal(), System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Copies the accumulated time into {@code into}, indexed by ordinal, and resets it.
+	 */
+	public static void drain(long[] into) {
+		for (int i = 0; i < SUBSYSTEMS.length; i++) {
+			into[i] = NANOS.getAndSet(i, 0L);
+		}
+	}
+
+	public static Subsystem[] subsystems() {
+		return SUBSYSTEMS.clone();
+	}
+}
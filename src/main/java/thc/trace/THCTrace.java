@@ -0,0 +1,90 @@
+package thc.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Ring buffer of recent trace events from enabled {@link TraceChannel}s.
+ *
+ * <p>Events keep their format string and raw arguments; formatting only happens when the
+ * buffer is dumped (or when debug logging is on for {@code thc.trace}), so an enabled
+ * channel costs an array store per event rather than a string build.
+ */
+public final class THCTrace {
+	private static final Logger LOGGER = LoggerFactory.getLogger("thc.trace");
+	private static final int CAPACITY = 512;
+
+	private static final long[] TIMES = new long[CAPACITY];
+	private static final TraceChannel[] CHANNELS = new TraceChannel[CAPACITY];
+	private static final String[] FORMATS = new String[CAPACITY];
+	private static final Object[][] ARGS = new Object[CAPACITY][];
+	private static long written;
+
+	private THCTrace() {
+	}
+
+	public static void record(TraceChannel channel, String format, Object a) {
+		append(channel, format, new Object[] {a});
+	}
+
+	public static void record(TraceChannel channel, String format, Object a, Object b) {
+		append(channel, format, new Object[] {a, b});
+	}
+
+	public static void record(TraceChannel channel, String format, Object a, Object b, Object c) {
+		append(channel, format, new Object[] {a, b, c});
+	}
+
+	public static void record(TraceChannel channel, String format, Object... args) {
+		append(channel, format, args);
+	}
+
+	private static synchronized void append(TraceChannel channel, String format, Object[] args) {
+		int slot = (int) (written % CAPACITY);
+		TIMES[slot] = System.currentTimeMillis();
+		CHANNELS[slot] = channel;
+		FORMATS[slot] = format;
+		ARGS[slot] = args;
+		written++;
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("[{}] {}", channel, MessageFormatter.arrayFormat(format, args).getMessage());
+		}
+	}
+
+	/**
+	 * Formats the newest {@code limit} events, oldest first.
+	 */
+	public static synchronized List<String> dump(int limit) {
+		long available = Math.min(written, CAPACITY);
+		int count = (int) Math.min(available, Math.max(0, limit));
+		long now = System.currentTimeMillis();
+		List<String> lines = new ArrayList<>(count);
+		for (long i = written - count; i < written; i++) {
+			int slot = (int) (i % CAPACITY);
+			lines.add(String.format("-%dms [%s] %s",
+				now - TIMES[slot],
+				CHANNELS[slot].name().toLowerCase(),
+				MessageFormatter.arrayFormat(FORMATS[slot], ARGS[slot]).getMessage()));
+		}
+		return lines;
+	}
+
+	/**
+	 * Number of events currently held.
+	 */
+	public static synchronized int size() {
+		return (int) Math.min(written, CAPACITY);
+	}
+
+	public static synchronized void clear() {
+		for (int i = 0; i < CAPACITY; i++) {
+			CHANNELS[i] = null;
+			FORMATS[i] = null;
+			ARGS[i] = null;
+		}
+		written = 0;
+	}
+}
@@ -0,0 +1,51 @@
+package thc.trace;
+
+/**
+ * Debug trace subsystems that can be toggled independently.
+ *
+ * <p>Call sites guard on {@link #enabled} before building any arguments, so a disabled
+ * channel costs one field read:
+ * <pre>{@code
+ * if (TraceChannel.SYNC.enabled) {
+ *     THCTrace.record(TraceChannel.SYNC, "downed -> {}: {} entries", player.getName().getString(), size);
+ * }
+ * }</pre>
+ */
+public enum TraceChannel {
+	/**
+	 * Server to client HUD/body sync packets and the sections each one carries, and each
+	 * downed-body delta: intros, removals, updates per tier and which tier passes ran.
+	 * Players with nothing changed send nothing and are not recorded.
+	 */
+	SYNC,
+	/**
+	 * Revival completion.
+	 */
+	REVIVAL,
+	/**
+	 * Client-side downed body cache updates and dummy creation. Toggled and dumped with
+	 * the client's {@code /thcclient trace} command.
+	 */
+	DOWNED_CLIENT;
+
+	/**
+	 * Volatile because channels are toggled from both the server and client threads, which
+	 * share this enum in singleplayer; the disabled check is still a single read.
+	 * Initialized from the comma-separated {@code thc.trace} system property
+	 * (e.g. {@code -Dthc.trace=sync,revival}, or {@code all}).
+	 */
+	public volatile boolean enabled;
+
+	static {
+		String property = System.getProperty("thc.trace", "");
+		for (String name : property.split(",")) {
+			String trimmed = name.trim();
+			if (trimmed.isEmpty()) continue;
+			for (TraceChannel channel : values()) {
+				if (trimmed.equalsIgnoreCase("all") || trimmed.equalsIgnoreCase(channel.name())) {
+					channel.enabled = true;
+				}
+			}
+		}
+	}
+}
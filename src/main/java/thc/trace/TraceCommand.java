@@ -0,0 +1,122 @@
+package thc.trace;
+
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+/**
+ * {@code /thc trace} command, attached to the operator-only root by {@link thc.THCCommand}.
+ *
+ * <ul>
+ *   <li>{@code /thc trace} - list channels and whether they are enabled</li>
+ *   <li>{@code /thc trace <channel> <true|false>} - toggle a channel</li>
+ *   <li>{@code /thc trace dump [count]} - print the newest buffered events (default 20)</li>
+ *   <li>{@code /thc trace clear} - empty the buffer</li>
+ * </ul>
+ *
+ * <p>The tree is generic over the command source, so the client's {@code /thcclient trace}
+ * is built by {@link #tree} too, with its own {@link Feedback}.
+ */
+public final class TraceCommand {
+	private static final int DEFAULT_DUMP = 20;
+
+	private static final Feedback<CommandSourceStack> SERVER_FEEDBACK = new Feedback<>() {
+		@Override
+		public void send(CommandSourceStack source, Component message, boolean broadcast) {
+			source.sendSuccess(() -> message, broadcast);
+		}
+
+		@Override
+		public void fail(CommandSourceStack source, Component message) {
+			source.sendFailure(message);
+		}
+	};
+
+	private TraceCommand() {}
+
+	public static LiteralArgumentBuilder<CommandSourceStack> node() {
+		return tree("Trace", SERVER_FEEDBACK);
+	}
+
+	/**
+	 * Builds the {@code trace} subtree for any command source.
+	 *
+	 * @param label    Names the buffer in replies, e.g. "Trace" or "Client trace"
+	 * @param feedback How replies reach the source
+	 */
+	public static <S> LiteralArgumentBuilder<S> tree(String label, Feedback<S> feedback) {
+		LiteralArgumentBuilder<S> trace = LiteralArgumentBuilder.<S>literal("trace")
+			.executes(context -> status(context, label, feedback))
+			.then(LiteralArgumentBuilder.<S>literal("dump")
+				.executes(context -> dump(context, label, feedback, DEFAULT_DUMP))
+				.then(RequiredArgumentBuilder.<S, Integer>argument("count", IntegerArgumentType.integer(1, 512))
+					.executes(context -> dump(context, label, feedback, IntegerArgumentType.getInteger(context, "count")))))
+			.then(LiteralArgumentBuilder.<S>literal("clear")
+				.executes(context -> clear(context, label, feedback)));
+		for (TraceChannel channel : TraceChannel.values()) {
+			trace.then(LiteralArgumentBuilder.<S>literal(channel.name().toLowerCase())
+				.then(RequiredArgumentBuilder.<S, Boolean>argument("enabled", BoolArgumentType.bool())
+					.executes(context -> toggle(context, label, feedback, channel, BoolArgumentType.getBool(context, "enabled")))));
+		}
+		return trace;
+	}
+
+	private static <S> int status(CommandContext<S> context, String label, Feedback<S> feedback) {
+		S source = context.getSource();
+		feedback.send(source,
+			Component.literal(label + " buffer: " + THCTrace.size() + " events").withStyle(ChatFormatting.GOLD), false);
+		for (TraceChannel channel : TraceChannel.values()) {
+			String line = "  " + channel.name().toLowerCase() + ": " + (channel.enabled ? "on" : "off");
+			feedback.send(source,
+				Component.literal(line).withStyle(channel.enabled ? ChatFormatting.GREEN : ChatFormatting.GRAY), false);
+		}
+		return 1;
+	}
+
+	private static <S> int toggle(CommandContext<S> context, String label, Feedback<S> feedback, TraceChannel channel, boolean enabled) {
+		channel.enabled = enabled;
+		feedback.send(context.getSource(),
+			Component.literal(label + " " + channel.name().toLowerCase() + (enabled ? " enabled" : " disabled"))
+				.withStyle(ChatFormatting.GREEN),
+			true // broadcast to ops
+		);
+		return 1;
+	}
+
+	private static <S> int dump(CommandContext<S> context, String label, Feedback<S> feedback, int count) {
+		S source = context.getSource();
+		var lines = THCTrace.dump(count);
+		if (lines.isEmpty()) {
+			feedback.fail(source, Component.literal(label + " buffer is empty").withStyle(ChatFormatting.RED));
+			return 0;
+		}
+		for (String line : lines) {
+			feedback.send(source, Component.literal(line), false);
+		}
+		return lines.size();
+	}
+
+	private static <S> int clear(CommandContext<S> context, String label, Feedback<S> feedback) {
+		THCTrace.clear();
+		feedback.send(context.getSource(),
+			Component.literal(label + " buffer cleared").withStyle(ChatFormatting.GREEN), false);
+		return 1;
+	}
+
+	/**
+	 * Sends command replies to a source of type {@code S}.
+	 */
+	public interface Feedback<S> {
+		/**
+		 * @param broadcast Whether to echo to other operators, where the source supports it
+		 */
+		void send(S source, Component message, boolean broadcast);
+
+		void fail(S source, Component message);
+	}
+}
@@ -0,0 +1,68 @@
+package thc.xp;
+
+/**
+ * Producers of experience orbs, and whether each may award XP.
+ *
+ * <p>THC only lets XP come from combat and experience bottles. Each producer tags the
+ * current thread through {@link XpSourceContext} while it runs, and the award hook
+ * checks {@link #allowed} for the innermost tag.
+ *
+ * <p>Defaults can be overridden with the comma-separated {@code thc.xpPolicy} system
+ * property, e.g. {@code -Dthc.xpPolicy=fishing=allow,ore=allow}.
+ */
+public enum XpSource {
+	/**
+	 * XP awarded outside any tagged producer (grindstone, mod content, commands).
+	 */
+	UNKNOWN(true),
+	/**
+	 * LivingEntity.dropExperience on mob death.
+	 */
+	MOB_DEATH(true),
+	/**
+	 * Thrown experience bottles.
+	 */
+	EXPERIENCE_BOTTLE(true),
+	/**
+	 * Animal breeding.
+	 */
+	BREEDING(false),
+	/**
+	 * Fishing rod retrieval.
+	 */
+	FISHING(false),
+	/**
+	 * Villager and wandering trader trades.
+	 */
+	TRADING(false),
+	/**
+	 * Furnace, smoker and blast furnace output.
+	 */
+	FURNACE(false),
+	/**
+	 * Block.popExperience when mining ores and other XP-dropping blocks.
+	 */
+	ORE(false);
+
+	/**
+	 * Plain field so the award check stays a single read.
+	 */
+	public boolean allowed;
+
+	XpSource(boolean allowed) {
+		this.allowed = allowed;
+	}
+
+	static {
+		String property = System.getProperty("thc.xpPolicy", "");
+		for (String entry : property.split(",")) {
+			String[] parts = entry.trim().split("=");
+			if (parts.length != 2) continue;
+			for (XpSource source : values()) {
+				if (parts[0].trim().equalsIgnoreCase(source.name())) {
+					source.allowed = parts[1].trim().equalsIgnoreCase("allow");
+				}
+			}
+		}
+	}
+}
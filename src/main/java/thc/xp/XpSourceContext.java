@@ -0,0 +1,57 @@
+package thc.xp;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+
+import java.util.Arrays;
+
+/**
+ * Thread-confined XP source tag.
+ *
+ * <p>Producer mixins (*XpSourceMixin) wrap their target method with {@link #call}, which
+ * keeps the source pushed for the duration of the call and pops it even if the target
+ * throws. The orb hooks read {@link #current()}. Tags nest, so a mob death triggered
+ * while some other producer runs is still attributed to the mob death.
+ */
+public final class XpSourceContext {
+	private static final ThreadLocal<Tags> TAGS = ThreadLocal.withInitial(Tags::new);
+
+	private XpSourceContext() {
+	}
+
+	private static final class Tags {
+		XpSource[] stack = new XpSource[4];
+		int depth;
+	}
+
+	/**
+	 * Runs {@code original} with {@code source} as the current tag.
+	 */
+	public static <T> T call(XpSource source, Operation<T> original, Object... args) {
+		push(source);
+		try {
+			return original.call(args);
+		} finally {
+			pop();
+		}
+	}
+
+	public static void push(XpSource source) {
+		Tags tags = TAGS.get();
+		if (tags.depth == tags.stack.length) {
+			tags.stack = Arrays.copyOf(tags.stack, tags.depth * 2);
+		}
+		tags.stack[tags.depth++] = source;
+	}
+
+	public static void pop() {
+		Tags tags = TAGS.get();
+		if (tags.depth > 0) {
+			tags.stack[--tags.depth] = null;
+		}
+	}
+
+	public static XpSource current() {
+		Tags tags = TAGS.get();
+		return tags.depth == 0 ? XpSource.UNKNOWN : tags.stack[tags.depth - 1];
+	}
+}
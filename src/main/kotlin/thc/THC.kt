@@ -7,11 +7,7 @@ import net.fabricmc.fabric.api.event.player.UseEntityCallback
 import net.fabricmc.fabric.api.loot.v3.LootTableEvents
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents
-import net.minecraft.core.particles.ParticleTypes
-import net.minecraft.server.MinecraftServer
-import net.minecraft.server.level.ServerLevel
 import net.minecraft.sounds.SoundEvents
-import net.minecraft.world.level.GameType
 import net.minecraft.world.InteractionResult
 import net.minecraft.world.entity.animal.cow.Cow
 import net.minecraft.world.item.ItemStack
@@ -20,19 +16,17 @@ import net.minecraft.world.level.gamerules.GameRules
 import org.slf4j.LoggerFactory
 import thc.base.BasePermissions
 import thc.bell.BellHandler
-import thc.buckler.BucklerState
-import thc.buckler.BucklerStatsRegistry
-import thc.item.BucklerItem
+import thc.buckler.BucklerTickPhase
 import thc.item.THCArrows
 import thc.item.THCBucklers
 import thc.item.EnderArmor
 import thc.item.THCItems
-import thc.network.BucklerSync
-import thc.network.BucklerStatePayload
-import thc.network.DownedPlayersPayload
-import thc.network.DownedPlayersSync
-import thc.network.RevivalStatePayload
-import thc.network.RevivalSync
+import thc.claim.ClaimManager
+import thc.claim.VillageChunkCache
+import thc.network.HudBundle
+import thc.network.HudStatePayload
+import thc.network.HudSyncPhase
+import thc.network.MobStatusStream
 import thc.armor.ArmorRebalancing
 import thc.food.FoodStatsModifier
 import thc.monster.DamageRebalancing
@@ -42,16 +36,26 @@ import thc.monster.SimpleEntityBehaviors
 import thc.playerclass.AllClassesCommand
 import thc.playerclass.ClassManager
 import thc.playerclass.SelectClassCommand
+import thc.spawn.RegionalCapManager
+import thc.spawn.RegionalMobCounter
+import thc.spawn.SpawnDistributions
+import thc.schedule.TickScheduler
+import thc.soak.SoakTest
 import thc.stage.AdvanceStageCommand
 import thc.stage.StageManager
+import thc.threat.PlayerIndex
+import thc.threat.ThreatPropagation
+import thc.threat.ThreatRegistry
+import thc.tick.PlayerTickPipeline
 import thc.world.MiningFatigue
+import thc.world.RestrictedBlockIndex
+import thc.world.VillagePieceIndex
 import thc.world.VillageProtection
 import thc.world.WorldRestrictions
 import thc.enchant.EnchantmentEnforcement
 import thc.lectern.LecternEnchanting
 import thc.downed.DownedManager
-import thc.downed.DownedState
-import thc.downed.RevivalState
+import thc.downed.RevivalTickPhase
 import thc.villager.JobBlockAssignment
 import thc.villager.VillagerInteraction
 
@@ -75,9 +79,14 @@ object THC : ModInitializer {
 		THCSounds.init()
 		BellHandler.register()
 		LecternEnchanting.register()
+		ClaimManager.register()
+		VillageChunkCache.register()
 		BasePermissions.register()
+		RestrictedBlockIndex.register()
 		WorldRestrictions.register()
+		VillagePieceIndex.register()
 		VillageProtection.register()
+		TickScheduler.register()
 		MiningFatigue.register()
 		ArmorRebalancing.register()
 		FoodStatsModifier.register()
@@ -91,9 +100,21 @@ object THC : ModInitializer {
 		VillagerInteraction.register()
 		JobBlockAssignment.register()
 		DownedManager.register()
-		PayloadTypeRegistry.playS2C().register(BucklerStatePayload.TYPE, BucklerStatePayload.STREAM_CODEC)
-		PayloadTypeRegistry.playS2C().register(RevivalStatePayload.TYPE, RevivalStatePayload.STREAM_CODEC)
-		PayloadTypeRegistry.playS2C().register(DownedPlayersPayload.TYPE, DownedPlayersPayload.STREAM_CODEC)
+		RegionalMobCounter.register()
+		RegionalCapManager.register()
+		SpawnDistributions.register()
+		PlayerIndex.register()
+		ThreatRegistry.register()
+		ThreatPropagation.register()
+		PlayerTickPipeline.addPhase(BucklerTickPhase.INSTANCE)
+		PlayerTickPipeline.addPhase(RevivalTickPhase.INSTANCE)
+		if (MobStatusStream.ENABLED) {
+			PlayerTickPipeline.addPhase(MobStatusStream.INSTANCE)
+		}
+		PlayerTickPipeline.addPhase(HudSyncPhase.INSTANCE)
+		PlayerTickPipeline.register()
+		THCCommand.register()
+		PayloadTypeRegistry.playS2C().register(HudStatePayload.TYPE, HudStatePayload.STREAM_CODEC)
 
 		// Cow milking with copper bucket
 		UseEntityCallback.EVENT.register { player, level, hand, entity, _ ->
@@ -119,22 +140,8 @@ object THC : ModInitializer {
 			InteractionResult.PASS
 		}
 
-		ServerTickEvents.END_SERVER_TICK.register(ServerTickEvents.EndTick { server ->
-			updateBucklerState(server)
-			processRevival(server)
-
-			// Sync revival state to all players for HUD rendering
-			val players = server.playerList.players
-			for (player in players) {
-				RevivalSync.sync(player, players)
-				DownedPlayersSync.sync(player, players)
-			}
-		})
-
 		ServerPlayConnectionEvents.DISCONNECT.register(ServerPlayConnectionEvents.Disconnect { handler, _ ->
-			BucklerSync.clear(handler.player)
-			RevivalSync.clear(handler.player)
-			DownedPlayersSync.clear(handler.player)
+			HudBundle.clear(handler.player)
 		})
 
 		ServerPlayConnectionEvents.JOIN.register(ServerPlayConnectionEvents.Join { handler, sender, server ->
@@ -231,6 +238,10 @@ object THC : ModInitializer {
 			}
 		})
 
+		if (SoakTest.ENABLED) {
+			SoakTest.register()
+		}
+
 		if (java.lang.Boolean.getBoolean(SMOKE_TEST_PROPERTY)) {
 			var tickCount = 0
 			var stopRequested = false
@@ -248,136 +259,4 @@ object THC : ModInitializer {
 			})
 		}
 	}
-
-	private fun updateBucklerState(server: MinecraftServer) {
-		for (player in server.playerList.players) {
-			val tick = player.level().gameTime
-			val isRaised = BucklerItem.isBucklerRaised(player)
-			val raiseTick = BucklerState.getRaiseTick(player)
-			if (isRaised) {
-				if (raiseTick < 0L) {
-					BucklerState.setRaiseTick(player, tick)
-				}
-			} else if (raiseTick >= 0L) {
-				BucklerState.setRaiseTick(player, -1L)
-			}
-
-			val stats = BucklerStatsRegistry.forStack(player.offhandItem)
-			if (stats != null) {
-				BucklerState.setMaxPoise(player, stats.maxPoiseHearts)
-			}
-			val maxPoise = if (stats != null) stats.maxPoiseHearts else BucklerState.getMaxPoise(player)
-			if (maxPoise <= 0.0) {
-				BucklerSync.sync(player)
-				continue
-			}
-
-			var poise = BucklerState.getPoise(player)
-			if (poise > maxPoise) {
-				poise = maxPoise
-				BucklerState.setPoise(player, poise)
-			}
-
-			if (isRaised) {
-				val drainPerTick = 0.5 / 10.0
-				if (drainPerTick > 0.0 && poise > 0.0) {
-					val updatedPoise = kotlin.math.max(0.0, poise - drainPerTick)
-					BucklerState.setPoise(player, updatedPoise)
-					if (updatedPoise <= 0.0) {
-						BucklerState.setBroken(player, true)
-						player.stopUsingItem()
-					}
-				}
-			} else {
-				val regenPerTick = maxPoise / 4.0 / 20.0
-				if (regenPerTick > 0.0 && poise < maxPoise) {
-					val updatedPoise = kotlin.math.min(maxPoise, poise + regenPerTick)
-					BucklerState.setPoise(player, updatedPoise)
-					if (updatedPoise >= maxPoise) {
-						BucklerState.setLastFullTick(player, tick)
-						if (BucklerState.isBroken(player)) {
-							BucklerState.setBroken(player, false)
-						}
-					}
-				}
-			}
-
-			BucklerSync.sync(player)
-		}
-	}
-
-	private fun processRevival(server: MinecraftServer) {
-		val players = server.playerList.players
-
-		// Find all downed players first
-		val downedPlayers = players.filter { DownedState.isDowned(it) }
-		if (downedPlayers.isEmpty()) return
-
-		// For each alive player who is sneaking, check proximity to downed players
-		for (reviver in players) {
-			// Must be alive (not downed) and sneaking
-			if (DownedState.isDowned(reviver)) continue
-			if (!reviver.isShiftKeyDown) continue
-
-			// Determine progress rate based on class
-			val progressRate = if (ClassManager.isSupport(reviver)) {
-				1.0 / 100.0  // 100 ticks = 5 seconds to reach 1.0
-			} else {
-				0.5 / 100.0  // 200 ticks = 10 seconds (0.5 per tick scaled to 0-1 range)
-			}
-
-			// Check each downed player
-			for (downed in downedPlayers) {
-				val downedLoc = DownedState.getDownedLocation(downed) ?: continue
-
-				// 2 block radius = 4.0 squared distance
-				val distSq = reviver.position().distanceToSqr(downedLoc)
-				if (distSq > 4.0) continue
-
-				// Accumulate progress on the downed player
-				RevivalState.addProgress(downed, progressRate)
-			}
-		}
-
-		// Check for revival completion (separate pass to avoid concurrent modification)
-		for (downed in downedPlayers) {
-			if (RevivalState.getProgress(downed) >= 1.0) {
-				val downedLoc = DownedState.getDownedLocation(downed)
-				if (downedLoc != null) {
-					completeRevival(downed, downedLoc)
-				}
-			}
-		}
-	}
-
-	private fun completeRevival(player: net.minecraft.server.level.ServerPlayer, downedLocation: net.minecraft.world.phys.Vec3) {
-		// Clear downed state (also clears revival progress)
-		DownedState.clearDowned(player)
-
-		// Restore to survival mode
-		player.setGameMode(GameType.SURVIVAL)
-
-		// Teleport to downed location
-		player.teleportTo(downedLocation.x, downedLocation.y, downedLocation.z)
-
-		// Set health to 50% of max
-		val maxHealth = player.maxHealth
-		player.health = maxHealth * 0.5f
-
-		// Set food level to 6 (CONTEXT.md override: not 0)
-		player.foodData.foodLevel = 6
-
-		// Spawn green particles (HAPPY_VILLAGER)
-		val level = player.level() as ServerLevel
-		level.sendParticles(
-			ParticleTypes.HAPPY_VILLAGER,
-			downedLocation.x,
-			downedLocation.y + 1.0,
-			downedLocation.z,
-			30,           // count
-			0.5, 0.5, 0.5, // spread (x, y, z)
-			0.0           // speed
-		)
-	}
-
 }
@@ -1,6 +1,7 @@
 package thc.claim
 
 import net.minecraft.core.BlockPos
+import net.minecraft.core.registries.Registries
 import net.minecraft.server.level.ServerLevel
 import net.minecraft.tags.StructureTags
 import net.minecraft.world.level.ChunkPos
@@ -16,6 +17,8 @@ import net.minecraft.world.level.levelgen.Heightmap
 object ChunkValidator {
 
     private const val MAX_HEIGHT_DIFFERENCE = 10
+    private val Y_LEVELS = intArrayOf(64, 70, 75, 80, 63, 60, 55)
+    private val XZ_OFFSETS = intArrayOf(2, 8, 14)
     private val logger = org.slf4j.LoggerFactory.getLogger("thc.ChunkValidator")
 
     /**
@@ -65,6 +68,19 @@ object ChunkValidator {
     /**
      * Checks if a chunk contains any village structure.
      *
+     * Answered from VillageChunkCache; the structure scan only runs on a cache miss.
+     *
+     * @param level The server level to check
+     * @param chunkPos The chunk position to validate
+     * @return true if the chunk contains or is part of a village structure
+     */
+    fun isVillageChunk(level: ServerLevel, chunkPos: ChunkPos): Boolean {
+        return VillageChunkCache.isVillageChunk(level, chunkPos)
+    }
+
+    /**
+     * Uncached village detection for a chunk.
+     *
      * Uses comprehensive structure detection:
      * 1. Check if any village structure STARTS in this chunk
      * 2. Check multiple positions across the chunk for village structure PIECES
@@ -74,73 +90,45 @@ object ChunkValidator {
      * @param chunkPos The chunk position to validate
      * @return true if the chunk contains or is part of a village structure
      */
-    fun isVillageChunk(level: ServerLevel, chunkPos: ChunkPos): Boolean {
+    fun classifyVillageChunk(level: ServerLevel, chunkPos: ChunkPos): Boolean {
         val structureManager = level.structureManager()
         val chunk = level.getChunk(chunkPos.x, chunkPos.z)
+        val structures = level.registryAccess().lookupOrThrow(Registries.STRUCTURE)
 
-        logger.info("Checking village for chunk ${chunkPos.x}, ${chunkPos.z}")
+        logger.debug("Checking village for chunk {}, {}", chunkPos.x, chunkPos.z)
 
         // Method 1: Check structure starts in this chunk
-        logger.info("  allStarts count: ${chunk.allStarts.size}")
-        for ((structure, start) in chunk.allStarts) {
-            val structureKey = level.registryAccess()
-                .lookupOrThrow(net.minecraft.core.registries.Registries.STRUCTURE)
-                .getKey(structure)
-
-            logger.info("  Found structure start: $structureKey")
-
-            if (structureKey != null) {
-                val holder = level.registryAccess()
-                    .lookupOrThrow(net.minecraft.core.registries.Registries.STRUCTURE)
-                    .get(structureKey)
-
-                if (holder.isPresent && holder.get().`is`(StructureTags.VILLAGE)) {
-                    logger.info("  -> Is a village! (via allStarts)")
-                    return true
-                }
+        for (structure in chunk.allStarts.keys) {
+            if (structures.wrapAsHolder(structure).`is`(StructureTags.VILLAGE)) {
+                logger.debug("  -> Is a village! (via allStarts)")
+                return true
             }
         }
 
         // Method 2: Check structure references (structures that extend into this chunk)
-        logger.info("  allReferences count: ${chunk.allReferences.size}")
-        for ((structure, refs) in chunk.allReferences) {
-            val structureKey = level.registryAccess()
-                .lookupOrThrow(net.minecraft.core.registries.Registries.STRUCTURE)
-                .getKey(structure)
-
-            logger.info("  Found structure reference: $structureKey (${refs.size} refs)")
-
-            if (structureKey != null) {
-                val holder = level.registryAccess()
-                    .lookupOrThrow(net.minecraft.core.registries.Registries.STRUCTURE)
-                    .get(structureKey)
-
-                if (holder.isPresent && holder.get().`is`(StructureTags.VILLAGE)) {
-                    logger.info("  -> Is a village! (via allReferences)")
-                    return true
-                }
+        for (structure in chunk.allReferences.keys) {
+            if (structures.wrapAsHolder(structure).`is`(StructureTags.VILLAGE)) {
+                logger.debug("  -> Is a village! (via allReferences)")
+                return true
             }
         }
 
         // Method 3: Sample multiple positions across the chunk for structure pieces
-        val yLevels = listOf(64, 70, 75, 80, 63, 60, 55)
-        val xOffsets = listOf(2, 8, 14)
-        val zOffsets = listOf(2, 8, 14)
-
-        for (y in yLevels) {
-            for (xOff in xOffsets) {
-                for (zOff in zOffsets) {
-                    val checkPos = BlockPos(chunkPos.minBlockX + xOff, y, chunkPos.minBlockZ + zOff)
+        val checkPos = BlockPos.MutableBlockPos()
+        for (y in Y_LEVELS) {
+            for (xOff in XZ_OFFSETS) {
+                for (zOff in XZ_OFFSETS) {
+                    checkPos.set(chunkPos.minBlockX + xOff, y, chunkPos.minBlockZ + zOff)
                     val structureAt = structureManager.getStructureWithPieceAt(checkPos, StructureTags.VILLAGE)
                     if (structureAt.isValid) {
-                        logger.info("  -> Is a village! (via getStructureWithPieceAt at $checkPos)")
+                        logger.debug("  -> Is a village! (via getStructureWithPieceAt at {})", checkPos)
                         return true
                     }
                 }
             }
         }
 
-        logger.info("  -> NOT a village chunk")
+        logger.debug("  -> NOT a village chunk")
         return false
     }
 }
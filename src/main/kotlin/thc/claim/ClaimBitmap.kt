@@ -0,0 +1,65 @@
+package thc.claim
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap
+import net.minecraft.world.level.ChunkPos
+
+/**
+ * Set of chunks stored as one 1024-bit bitmap per 32x32-chunk region
+ * (the same grid as region files).
+ *
+ * A lookup is one region map probe plus a bit test; the last region probed is
+ * cached, so the repeated lookups natural spawning makes around the same area
+ * skip the map entirely. Regions without any claims cost nothing.
+ */
+class ClaimBitmap {
+
+    private val regions = Long2ObjectOpenHashMap<LongArray>()
+
+    private var cachedRegionKey = Long.MIN_VALUE
+    private var cachedRegion: LongArray? = null
+
+    fun contains(chunkX: Int, chunkZ: Int): Boolean {
+        val bits = region(chunkX, chunkZ) ?: return false
+        val bit = bitIndex(chunkX, chunkZ)
+        return bits[bit ushr 6] and (1L shl bit) != 0L
+    }
+
+    fun contains(chunkKey: Long): Boolean = contains(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey))
+
+    fun add(chunkKey: Long) {
+        val chunkX = ChunkPos.getX(chunkKey)
+        val chunkZ = ChunkPos.getZ(chunkKey)
+        val regionKey = ChunkPos.asLong(chunkX shr 5, chunkZ shr 5)
+        val bits = regions.computeIfAbsent(regionKey) { LongArray(16) }
+        val bit = bitIndex(chunkX, chunkZ)
+        bits[bit ushr 6] = bits[bit ushr 6] or (1L shl bit)
+        // A new region may have been created for the cached key
+        cachedRegionKey = Long.MIN_VALUE
+        cachedRegion = null
+    }
+
+    fun remove(chunkKey: Long) {
+        val chunkX = ChunkPos.getX(chunkKey)
+        val chunkZ = ChunkPos.getZ(chunkKey)
+        val bits = region(chunkX, chunkZ) ?: return
+        val bit = bitIndex(chunkX, chunkZ)
+        bits[bit ushr 6] = bits[bit ushr 6] and (1L shl bit).inv()
+    }
+
+    fun clear() {
+        regions.clear()
+        cachedRegionKey = Long.MIN_VALUE
+        cachedRegion = null
+    }
+
+    private fun region(chunkX: Int, chunkZ: Int): LongArray? {
+        val regionKey = ChunkPos.asLong(chunkX shr 5, chunkZ shr 5)
+        if (regionKey != cachedRegionKey) {
+            cachedRegion = regions.get(regionKey)
+            cachedRegionKey = regionKey
+        }
+        return cachedRegion
+    }
+
+    private fun bitIndex(chunkX: Int, chunkZ: Int): Int = (chunkX and 31) or ((chunkZ and 31) shl 5)
+}
@@ -1,17 +1,51 @@
 package thc.claim
 
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents
 import net.minecraft.core.BlockPos
 import net.minecraft.server.MinecraftServer
 import net.minecraft.world.level.ChunkPos
+import thc.jfr.ClaimLookupEvent
+import thc.tick.SubsystemTimings
 
 /**
  * Singleton providing the claim query and mutation API.
  *
- * All methods retrieve ClaimData via lazy getOrCreate pattern,
- * no initialization required.
+ * ClaimData (SavedData) stays the persistent source of truth. Queries are answered
+ * from an in-memory index - a per-region ClaimBitmap plus a primitive floor map -
+ * built from ClaimData on server start (or on the first query for a server) and
+ * updated by addClaim, so the read path does no SavedData resolution and no boxing.
  */
 object ClaimManager {
 
+    /**
+     * Floor value returned by the index for unclaimed chunks.
+     */
+    private const val NO_FLOOR = Int.MIN_VALUE
+
+    /**
+     * Server the index was built for. Guards against stale data across
+     * integrated server restarts.
+     */
+    private var indexedServer: MinecraftServer? = null
+
+    private val claimedChunks = ClaimBitmap()
+    private val baseFloors = Long2IntOpenHashMap().apply { defaultReturnValue(NO_FLOOR) }
+
+    /**
+     * Registers index rebuild on server start and cleanup on server stop.
+     */
+    fun register() {
+        ServerLifecycleEvents.SERVER_STARTED.register(ServerLifecycleEvents.ServerStarted { server ->
+            rebuildIndex(server)
+        })
+        ServerLifecycleEvents.SERVER_STOPPED.register(ServerLifecycleEvents.ServerStopped { _ ->
+            indexedServer = null
+            claimedChunks.clear()
+            baseFloors.clear()
+        })
+    }
+
     /**
      * Check if a chunk is claimed.
      *
@@ -20,8 +54,33 @@ object ClaimManager {
      * @return true if the chunk is claimed
      */
     fun isClaimed(server: MinecraftServer, chunkPos: ChunkPos): Boolean {
-        val state = ClaimData.getServerState(server)
-        return state.claimedChunks.contains(chunkPos.toLong())
+        return isClaimed(server, chunkPos.toLong())
+    }
+
+    /**
+     * Check if a chunk is claimed by its packed ChunkPos.toLong() key.
+     */
+    fun isClaimed(server: MinecraftServer, chunkKey: Long): Boolean =
+        isClaimed(server, ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey))
+
+    /**
+     * Check if a chunk is claimed by chunk coordinates. A single bit test in the
+     * common case; used at NaturalSpawner.spawnForChunk HEAD.
+     */
+    fun isClaimed(server: MinecraftServer, chunkX: Int, chunkZ: Int): Boolean {
+        val event = ClaimLookupEvent()
+        event.begin()
+        val start = SubsystemTimings.start()
+        ensureIndexed(server)
+        val claimed = claimedChunks.contains(chunkX, chunkZ)
+        SubsystemTimings.stop(SubsystemTimings.Subsystem.CLAIM_CHECK, start)
+        if (event.shouldCommit()) {
+            event.chunkX = chunkX
+            event.chunkZ = chunkZ
+            event.claimed = claimed
+            event.commit()
+        }
+        return claimed
     }
 
     /**
@@ -33,16 +92,45 @@ object ClaimManager {
      * @return true if the claim was added, false if already claimed
      */
     fun addClaim(server: MinecraftServer, chunkPos: ChunkPos, baseFloorY: Int): Boolean {
-        val state = ClaimData.getServerState(server)
+        ensureIndexed(server)
         val chunkKey = chunkPos.toLong()
 
-        if (state.claimedChunks.contains(chunkKey)) {
+        if (claimedChunks.contains(chunkKey)) {
             return false
         }
 
+        val state = ClaimData.getServerState(server)
         state.claimedChunks.add(chunkKey)
         state.baseFloors[chunkKey] = baseFloorY
         state.setDirty()
+
+        claimedChunks.add(chunkKey)
+        baseFloors.put(chunkKey, baseFloorY)
+        return true
+    }
+
+    /**
+     * Remove the claim on a chunk.
+     *
+     * @param server The Minecraft server instance
+     * @param chunkPos The chunk position to unclaim
+     * @return true if the claim was removed, false if the chunk was not claimed
+     */
+    fun removeClaim(server: MinecraftServer, chunkPos: ChunkPos): Boolean {
+        ensureIndexed(server)
+        val chunkKey = chunkPos.toLong()
+
+        if (!claimedChunks.contains(chunkKey)) {
+            return false
+        }
+
+        val state = ClaimData.getServerState(server)
+        state.claimedChunks.remove(chunkKey)
+        state.baseFloors.remove(chunkKey)
+        state.setDirty()
+
+        claimedChunks.remove(chunkKey)
+        baseFloors.remove(chunkKey)
         return true
     }
 
@@ -54,8 +142,9 @@ object ClaimManager {
      * @return The base floor Y level, or null if the chunk is not claimed
      */
     fun getBaseFloorY(server: MinecraftServer, chunkPos: ChunkPos): Int? {
-        val state = ClaimData.getServerState(server)
-        return state.baseFloors[chunkPos.toLong()]
+        ensureIndexed(server)
+        val floor = baseFloors.get(chunkPos.toLong())
+        return if (floor == NO_FLOOR) null else floor
     }
 
     /**
@@ -70,8 +159,27 @@ object ClaimManager {
      * @return true if the position is within a base area
      */
     fun isInBase(server: MinecraftServer, pos: BlockPos): Boolean {
-        val chunkPos = ChunkPos(pos)
-        val baseFloorY = getBaseFloorY(server, chunkPos) ?: return false
-        return pos.y >= baseFloorY
+        ensureIndexed(server)
+        val baseFloorY = baseFloors.get(ChunkPos.asLong(pos))
+        return baseFloorY != NO_FLOOR && pos.y >= baseFloorY
+    }
+
+    private fun ensureIndexed(server: MinecraftServer) {
+        if (indexedServer !== server) {
+            rebuildIndex(server)
+        }
+    }
+
+    private fun rebuildIndex(server: MinecraftServer) {
+        val state = ClaimData.getServerState(server)
+        claimedChunks.clear()
+        baseFloors.clear()
+        for (chunkKey in state.claimedChunks) {
+            claimedChunks.add(chunkKey)
+        }
+        for ((chunkKey, floorY) in state.baseFloors) {
+            baseFloors.put(chunkKey, floorY)
+        }
+        indexedServer = server
     }
 }
@@ -0,0 +1,154 @@
+package thc.claim
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents
+import net.minecraft.resources.ResourceKey
+import net.minecraft.server.level.ServerLevel
+import net.minecraft.world.level.ChunkPos
+import net.minecraft.world.level.Level
+import thc.jfr.VillageCheckEvent
+import thc.tick.SubsystemTimings
+
+/**
+ * Per-level memo of ChunkValidator's village classification, keyed by ChunkPos.toLong().
+ *
+ * A full chunk's structure starts and references are fixed once it is generated, so a
+ * classification stays valid until ChunkAccessStructureMixin reports a structure
+ * start/reference change for that chunk. Lookups are a primitive long-set probe.
+ * Entries only live while their chunk is loaded, so the sets stay bounded by the loaded
+ * area; a chunk that loads again is simply classified again.
+ *
+ * Chunks around players are classified ahead of time by a small per-tick prefetch
+ * budget, so the block-break path normally only hits the cache. The prefetch runs on
+ * the server thread: structure lookups go through the chunk source, which is not safe
+ * to call from other threads.
+ */
+object VillageChunkCache {
+
+    /**
+     * Prefetch a (2r+1)^2 chunk square around each player.
+     */
+    private const val PREFETCH_RADIUS = 2
+
+    /**
+     * Max uncached chunks classified by the prefetch per server tick, across all players.
+     */
+    private const val PREFETCH_BUDGET = 4
+
+    private class LevelCache {
+        val villages = LongOpenHashSet()
+        val nonVillages = LongOpenHashSet()
+    }
+
+    private val caches = HashMap<ResourceKey<Level>, LevelCache>()
+
+    /**
+     * Registers the prefetch tick and the chunk unload, world unload and shutdown cleanup.
+     */
+    fun register() {
+        ServerTickEvents.END_SERVER_TICK.register(ServerTickEvents.EndTick { server ->
+            var budget = PREFETCH_BUDGET
+            for (player in server.playerList.players) {
+                val level = player.level()
+                val centerX = player.blockX shr 4
+                val centerZ = player.blockZ shr 4
+                for (dx in -PREFETCH_RADIUS..PREFETCH_RADIUS) {
+                    for (dz in -PREFETCH_RADIUS..PREFETCH_RADIUS) {
+                        if (budget == 0) {
+                            return@EndTick
+                        }
+                        if (prefetch(level, centerX + dx, centerZ + dz)) {
+                            budget--
+                        }
+                    }
+                }
+            }
+        })
+        ServerChunkEvents.CHUNK_UNLOAD.register(ServerChunkEvents.Unload { level, chunk ->
+            invalidate(level, chunk.pos)
+        })
+        ServerWorldEvents.UNLOAD.register(ServerWorldEvents.Unload { _, level ->
+            caches.remove(level.dimension())
+        })
+        ServerLifecycleEvents.SERVER_STOPPED.register(ServerLifecycleEvents.ServerStopped { _ ->
+            caches.clear()
+        })
+    }
+
+    /**
+     * Cached village classification for a chunk. Classifies (and loads the chunk) on a miss.
+     */
+    fun isVillageChunk(level: ServerLevel, chunkPos: ChunkPos): Boolean {
+        val event = VillageCheckEvent()
+        event.begin()
+        val start = SubsystemTimings.start()
+        val cache = cacheFor(level)
+        val key = chunkPos.toLong()
+        var cached = true
+        val village = when {
+            cache.villages.contains(key) -> true
+            cache.nonVillages.contains(key) -> false
+            else -> {
+                cached = false
+                classify(level, cache, chunkPos)
+            }
+        }
+        SubsystemTimings.stop(SubsystemTimings.Subsystem.VILLAGE_CHECK, start)
+        if (event.shouldCommit()) {
+            event.chunkX = chunkPos.x
+            event.chunkZ = chunkPos.z
+            event.village = village
+            event.cached = cached
+            event.commit()
+        }
+        return village
+    }
+
+    /**
+     * Drop the classification of a chunk whose structure starts or references changed, or
+     * which unloaded.
+     */
+    @JvmStatic
+    fun invalidate(level: ServerLevel, chunkPos: ChunkPos) {
+        val cache = caches[level.dimension()] ?: return
+        val key = chunkPos.toLong()
+        cache.villages.remove(key)
+        cache.nonVillages.remove(key)
+    }
+
+    /**
+     * Classify a loaded, uncached chunk.
+     *
+     * @return true if work was done (counts against the prefetch budget)
+     */
+    private fun prefetch(level: ServerLevel, chunkX: Int, chunkZ: Int): Boolean {
+        val cache = cacheFor(level)
+        val key = ChunkPos.asLong(chunkX, chunkZ)
+        if (cache.villages.contains(key) || cache.nonVillages.contains(key)) {
+            return false
+        }
+        // Never load or generate chunks from the prefetch
+        if (level.chunkSource.getChunkNow(chunkX, chunkZ) == null) {
+            return false
+        }
+        classify(level, cache, ChunkPos(chunkX, chunkZ))
+        return true
+    }
+
+    private fun classify(level: ServerLevel, cache: LevelCache, chunkPos: ChunkPos): Boolean {
+        val village = ChunkValidator.classifyVillageChunk(level, chunkPos)
+        val key = chunkPos.toLong()
+        if (village) {
+            cache.villages.add(key)
+        } else {
+            cache.nonVillages.add(key)
+        }
+        return village
+    }
+
+    private fun cacheFor(level: ServerLevel): LevelCache =
+        caches.getOrPut(level.dimension()) { LevelCache() }
+}
@@ -1,7 +1,9 @@
 package thc.world
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents
 import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents
+import net.minecraft.core.BlockPos
+import net.minecraft.server.MinecraftServer
 import net.minecraft.server.level.ServerLevel
 import net.minecraft.server.level.ServerPlayer
 import net.minecraft.tags.BlockTags
@@ -12,6 +14,8 @@ import net.minecraft.world.level.block.Blocks
 import net.minecraft.world.level.block.state.BlockState
 import thc.claim.ChunkValidator
 import thc.claim.ClaimManager
+import thc.schedule.TickScheduler
+import thc.tick.SubsystemTimings
 import thc.world.WorldRestrictions
 import java.util.UUID
 
@@ -40,86 +44,77 @@ object MiningFatigue {
     private const val MAX_AMPLIFIER = 9
 
     /**
-     * Tracks players with mining fatigue.
-     * Maps player UUID to their current fatigue amplifier when effect was applied.
-     * Used for decay logic to know when to reapply at lower level.
+     * Pending decay step per player with mining fatigue, from this system or any other source.
+     * Replaced whenever the effect is added or changed.
      */
-    private val trackedPlayers = mutableMapOf<UUID, Int>()
+    private val decayTasks = mutableMapOf<UUID, TickScheduler.Task>()
 
     /**
-     * Registers the block break event handler and tick handler for decay.
+     * Registers the block break event handler and disconnect cleanup.
+     *
+     * Decay is event-driven: every time Mining Fatigue is added or changed on a player
+     * (ServerPlayerMiningFatigueMixin), a decay check is scheduled for the tick the effect
+     * is about to expire, so no per-tick scan over players is needed.
      */
     fun register() {
-        // Register tick handler for fatigue decay
-        ServerTickEvents.END_SERVER_TICK.register(ServerTickEvents.EndTick { server ->
-            for (player in server.playerList.players) {
-                val effect = player.getEffect(MobEffects.MINING_FATIGUE)
-
-                if (effect == null) {
-                    // No effect, clean up tracking
-                    trackedPlayers.remove(player.uuid)
-                    continue
-                }
-
-                // Check if effect is about to expire (duration <= 1 tick)
-                if (effect.duration <= 1) {
-                    val currentAmplifier = effect.amplifier
-
-                    if (currentAmplifier > 0) {
-                        // Decay to lower level: remove and reapply at amplifier-1
-                        player.removeEffect(MobEffects.MINING_FATIGUE)
-                        val newAmplifier = currentAmplifier - 1
-                        player.addEffect(MobEffectInstance(MobEffects.MINING_FATIGUE, DECAY_TICKS, newAmplifier))
-                        trackedPlayers[player.uuid] = newAmplifier
-                    } else {
-                        // Amplifier 0 (Fatigue I) - let it expire naturally
-                        // Clean up tracking on next tick when effect is gone
-                    }
-                }
+        ServerPlayConnectionEvents.DISCONNECT.register(ServerPlayConnectionEvents.Disconnect { handler, _ ->
+            decayTasks.remove(handler.player.uuid)?.cancel()
+        })
+
+        // Resume decay for players who logged out with fatigue
+        ServerPlayConnectionEvents.JOIN.register(ServerPlayConnectionEvents.Join { handler, _, server ->
+            val effect = handler.player.getEffect(MobEffects.MINING_FATIGUE)
+            if (effect != null && !effect.isInfiniteDuration) {
+                scheduleDecay(server, handler.player.uuid, effect.duration - 2)
             }
         })
 
         // Register block break handler for fatigue application
-        PlayerBlockBreakEvents.BEFORE.register { level, player, pos, state, blockEntity ->
+        PlayerBlockBreakEvents.BEFORE.register { level, player, pos, state, _ ->
             // Skip client-side processing
-            if (level.isClientSide) {
-                return@register true
-            }
-
-            val serverLevel = level as ServerLevel
-            val server = serverLevel.server
-
-            // BREAK-03: No fatigue inside base areas
-            if (ClaimManager.isInBase(server, pos)) {
-                return@register true
+            if (!level.isClientSide) {
+                val start = SubsystemTimings.start()
+                onBlockBreak(level as ServerLevel, player as ServerPlayer, pos, state)
+                SubsystemTimings.stop(SubsystemTimings.Subsystem.MINING_FATIGUE, start)
             }
 
-            // No fatigue in village chunks (village protection handled elsewhere)
-            if (ChunkValidator.isVillageChunk(serverLevel, ChunkPos(pos))) {
-                return@register true
-            }
+            // Allow the break - fatigue makes it slow, doesn't prevent
+            true
+        }
+    }
 
-            // No fatigue for mining ores - allows resource gathering without penalty
-            if (isOre(state)) {
-                return@register true
-            }
+    /**
+     * Applies fatigue for a block broken outside base and village areas, unless the
+     * block is exempt.
+     */
+    private fun onBlockBreak(level: ServerLevel, player: ServerPlayer, pos: BlockPos, state: BlockState) {
+        // BREAK-03: No fatigue inside base areas
+        if (ClaimManager.isInBase(level.server, pos)) {
+            return
+        }
 
-            // No fatigue for exempt block categories (flowers, grass, glass, beds, gravel)
-            if (isExemptBlock(state)) {
-                return@register true
-            }
+        // No fatigue in village chunks (village protection handled elsewhere)
+        if (ChunkValidator.isVillageChunk(level, ChunkPos(pos))) {
+            return
+        }
 
-            // No fatigue for placeable-anywhere blocks (torches, chests, crafting tables, etc.)
-            if (WorldRestrictions.ALLOWED_BLOCKS.contains(state.block)) {
-                return@register true
-            }
+        // No fatigue for mining ores - allows resource gathering without penalty
+        if (isOre(state)) {
+            return
+        }
 
-            // Apply/stack mining fatigue
-            applyFatigue(player as ServerPlayer)
+        // No fatigue for exempt block categories (flowers, grass, glass, beds, gravel)
+        if (isExemptBlock(state)) {
+            return
+        }
 
-            // Allow the break - fatigue makes it slow, doesn't prevent
-            true
+        // No fatigue for placeable-anywhere blocks (torches, chests, crafting tables, etc.)
+        if (WorldRestrictions.ALLOWED_BLOCKS.contains(state.block)) {
+            return
         }
+
+        // Apply/stack mining fatigue
+        applyFatigue(player)
     }
 
     /**
@@ -147,11 +142,67 @@ object MiningFatigue {
             player.removeEffect(MobEffects.MINING_FATIGUE)
         }
 
-        // Apply new effect with incremented amplifier
+        // Apply new effect with incremented amplifier; the decay step is scheduled by onFatigueChanged
         player.addEffect(MobEffectInstance(MobEffects.MINING_FATIGUE, DECAY_TICKS, newAmplifier))
+    }
+
+    /**
+     * Called whenever Mining Fatigue is added to or changed on a player, whatever the source,
+     * so fatigue from elder guardians or commands steps down at expiry too.
+     *
+     * Schedules the decay step two ticks early: the effect may be added mid-tick, before its
+     * first tick; decayStep re-schedules for whatever duration is left.
+     */
+    @JvmStatic
+    fun onFatigueChanged(player: ServerPlayer, effect: MobEffectInstance) {
+        if (effect.isInfiniteDuration) {
+            decayTasks.remove(player.uuid)?.cancel()
+            return
+        }
+        scheduleDecay(player.level().server, player.uuid, effect.duration - 2)
+    }
+
+    /**
+     * Replace a player's pending decay step.
+     */
+    private fun scheduleDecay(server: MinecraftServer, uuid: UUID, delayTicks: Int) {
+        decayTasks.remove(uuid)?.cancel()
+        decayTasks[uuid] = TickScheduler.schedule(maxOf(delayTicks, 1)) { decayStep(server, uuid) }
+    }
 
-        // Track for decay logic
-        trackedPlayers[player.uuid] = newAmplifier
+    /**
+     * Runs at END_SERVER_TICK when a player's fatigue should be about to expire.
+     * BREAK-04: one level lost every 12 seconds.
+     */
+    private fun decayStep(server: MinecraftServer, uuid: UUID) {
+        val start = SubsystemTimings.start()
+        decayTasks.remove(uuid)
+        decay(server, uuid)
+        SubsystemTimings.stop(SubsystemTimings.Subsystem.MINING_FATIGUE, start)
+    }
+
+    private fun decay(server: MinecraftServer, uuid: UUID) {
+        val player = server.playerList.getPlayer(uuid) ?: return
+        val effect = player.getEffect(MobEffects.MINING_FATIGUE) ?: return
+
+        if (effect.isInfiniteDuration) {
+            return
+        }
+
+        // Not yet expiring (or changed by something else) - check again when it is
+        if (effect.duration > 1) {
+            scheduleDecay(server, uuid, effect.duration - 1)
+            return
+        }
+
+        val currentAmplifier = effect.amplifier
+        if (currentAmplifier > 0) {
+            // Decay to lower level: remove and reapply at amplifier-1
+            player.removeEffect(MobEffects.MINING_FATIGUE)
+            val newAmplifier = currentAmplifier - 1
+            player.addEffect(MobEffectInstance(MobEffects.MINING_FATIGUE, DECAY_TICKS, newAmplifier))
+        }
+        // Amplifier 0 (Fatigue I) - let it expire naturally
     }
 
     /**
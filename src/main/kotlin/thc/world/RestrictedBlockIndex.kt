@@ -0,0 +1,172 @@
+package thc.world
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents
+import net.minecraft.core.BlockPos
+import net.minecraft.core.SectionPos
+import net.minecraft.resources.ResourceKey
+import net.minecraft.server.level.ServerLevel
+import net.minecraft.world.level.Level
+import net.minecraft.world.level.block.state.BlockState
+
+/**
+ * Per-section occupancy bitmaps of restricted allowlist blocks (WorldRestrictions
+ * allowlist blocks that are subject to the adjacency rule).
+ *
+ * Each 16x16x16 section gets a 4096-bit bitmap, built on first query from the section's
+ * palette (sections whose palette cannot contain a restricted block are marked empty
+ * without scanning) and kept current from ServerLevelPoiMixin, which reports every
+ * block state change. Bitmaps are dropped when their chunk unloads.
+ *
+ * "Is there a restricted block near X" then becomes a handful of bit tests. The index
+ * is a general service: any placement rule can ask about an arbitrary box around a
+ * position via [anyWithin].
+ */
+object RestrictedBlockIndex {
+
+    private const val WORDS_PER_SECTION = 4096 / 64
+
+    /**
+     * Shared marker for sections known to contain no restricted block.
+     */
+    private val EMPTY = LongArray(0)
+
+    private val indices = HashMap<ResourceKey<Level>, Long2ObjectOpenHashMap<LongArray>>()
+
+    /**
+     * Registers chunk unload and server stop cleanup.
+     */
+    fun register() {
+        ServerChunkEvents.CHUNK_UNLOAD.register(ServerChunkEvents.Unload { level, chunk ->
+            val index = indices[level.dimension()] ?: return@Unload
+            val pos = chunk.pos
+            for (sectionY in level.minSectionY..level.maxSectionY) {
+                index.remove(SectionPos.asLong(pos.x, sectionY, pos.z))
+            }
+        })
+        ServerLifecycleEvents.SERVER_STOPPED.register(ServerLifecycleEvents.ServerStopped { _ ->
+            indices.clear()
+        })
+    }
+
+    /**
+     * Whether a block state is a restricted allowlist block.
+     */
+    fun isRestricted(state: BlockState): Boolean = WorldRestrictions.isAdjacencyRestricted(state.block)
+
+    /**
+     * Check whether any restricted block lies in the cube of the given radius around a
+     * position (Chebyshev distance), optionally ignoring the center itself.
+     *
+     * @param level The server level
+     * @param center The center position
+     * @param radius Cube radius in blocks
+     * @param includeCenter Whether the center block counts
+     */
+    fun anyWithin(level: ServerLevel, center: BlockPos, radius: Int, includeCenter: Boolean = false): Boolean {
+        val minX = center.x - radius
+        val minY = maxOf(center.y - radius, level.minY)
+        val minZ = center.z - radius
+        val maxX = center.x + radius
+        val maxY = minOf(center.y + radius, level.maxY)
+        val maxZ = center.z + radius
+
+        for (sectionX in (minX shr 4)..(maxX shr 4)) {
+            for (sectionY in (minY shr 4)..(maxY shr 4)) {
+                for (sectionZ in (minZ shr 4)..(maxZ shr 4)) {
+                    val bits = section(level, sectionX, sectionY, sectionZ)
+                    if (bits === EMPTY) {
+                        continue
+                    }
+                    // Intersect the query box with this section
+                    val x0 = maxOf(minX, sectionX shl 4)
+                    val x1 = minOf(maxX, (sectionX shl 4) + 15)
+                    val y0 = maxOf(minY, sectionY shl 4)
+                    val y1 = minOf(maxY, (sectionY shl 4) + 15)
+                    val z0 = maxOf(minZ, sectionZ shl 4)
+                    val z1 = minOf(maxZ, (sectionZ shl 4) + 15)
+                    for (y in y0..y1) {
+                        for (z in z0..z1) {
+                            for (x in x0..x1) {
+                                if (!test(bits, x, y, z)) {
+                                    continue
+                                }
+                                if (includeCenter || x != center.x || y != center.y || z != center.z) {
+                                    return true
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return false
+    }
+
+    /**
+     * Keep an already built section bitmap in sync with a block state change.
+     */
+    @JvmStatic
+    fun onBlockStateChange(level: ServerLevel, pos: BlockPos, oldState: BlockState, newState: BlockState) {
+        val restricted = isRestricted(newState)
+        if (restricted == isRestricted(oldState)) {
+            return
+        }
+        val index = indices[level.dimension()] ?: return
+        val key = SectionPos.asLong(pos.x shr 4, pos.y shr 4, pos.z shr 4)
+        var bits = index.get(key) ?: return // Not built yet - first query scans the live section
+        if (restricted && bits === EMPTY) {
+            bits = LongArray(WORDS_PER_SECTION)
+            index.put(key, bits)
+        }
+        if (bits === EMPTY) {
+            return
+        }
+        val bit = bitIndex(pos.x, pos.y, pos.z)
+        if (restricted) {
+            bits[bit ushr 6] = bits[bit ushr 6] or (1L shl bit)
+        } else {
+            bits[bit ushr 6] = bits[bit ushr 6] and (1L shl bit).inv()
+        }
+    }
+
+    private fun section(level: ServerLevel, sectionX: Int, sectionY: Int, sectionZ: Int): LongArray {
+        val index = indices.getOrPut(level.dimension()) { Long2ObjectOpenHashMap() }
+        val key = SectionPos.asLong(sectionX, sectionY, sectionZ)
+        return index.get(key) ?: build(level, sectionX, sectionY, sectionZ).also { index.put(key, it) }
+    }
+
+    private fun build(level: ServerLevel, sectionX: Int, sectionY: Int, sectionZ: Int): LongArray {
+        val chunk = level.getChunk(sectionX, sectionZ)
+        val section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY))
+        if (section.hasOnlyAir() || !section.maybeHas(::isRestricted)) {
+            return EMPTY
+        }
+
+        val bits = LongArray(WORDS_PER_SECTION)
+        var any = false
+        for (y in 0 until 16) {
+            for (z in 0 until 16) {
+                for (x in 0 until 16) {
+                    if (isRestricted(section.getBlockState(x, y, z))) {
+                        val bit = bitIndex(x, y, z)
+                        bits[bit ushr 6] = bits[bit ushr 6] or (1L shl bit)
+                        any = true
+                    }
+                }
+            }
+        }
+        return if (any) bits else EMPTY
+    }
+
+    private fun test(bits: LongArray, x: Int, y: Int, z: Int): Boolean {
+        val bit = bitIndex(x, y, z)
+        return bits[bit ushr 6] and (1L shl bit) != 0L
+    }
+
+    /**
+     * Section-local index, same layout as vanilla section storage (y, z, x).
+     */
+    private fun bitIndex(x: Int, y: Int, z: Int): Int = ((y and 15) shl 8) or ((z and 15) shl 4) or (x and 15)
+}
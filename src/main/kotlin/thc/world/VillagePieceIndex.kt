@@ -0,0 +1,120 @@
+package thc.world
+
+import it.unimi.dsi.fastutil.ints.IntArrayList
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents
+import net.minecraft.core.BlockPos
+import net.minecraft.core.registries.Registries
+import net.minecraft.resources.ResourceKey
+import net.minecraft.server.level.ServerLevel
+import net.minecraft.tags.StructureTags
+import net.minecraft.world.level.ChunkPos
+import net.minecraft.world.level.Level
+
+/**
+ * Per-level index of village structure piece bounding boxes, bucketed by chunk.
+ *
+ * Each chunk's entry holds the boxes of every village piece that overlaps the chunk
+ * column, flattened into an IntArray of (minX, minY, minZ, maxX, maxY, maxZ) runs.
+ * An entry is built from the chunk's structure references the first time the chunk
+ * is queried, dropped when the chunk or its level unloads, and invalidated by
+ * ChunkAccessStructureMixin if its structure starts or references change.
+ *
+ * An inside-village test is then one map probe plus a few box comparisons - the same
+ * answer StructureManager.getStructureWithPieceAt(pos, VILLAGE) gives.
+ */
+object VillagePieceIndex {
+
+    private const val BOX_INTS = 6
+
+    /**
+     * Shared entry for chunks that no village piece overlaps.
+     */
+    private val NO_PIECES = IntArray(0)
+
+    private val indices = HashMap<ResourceKey<Level>, Long2ObjectOpenHashMap<IntArray>>()
+
+    /**
+     * Registers chunk unload, level unload and server stop cleanup.
+     */
+    fun register() {
+        ServerChunkEvents.CHUNK_UNLOAD.register(ServerChunkEvents.Unload { level, chunk ->
+            indices[level.dimension()]?.remove(chunk.pos.toLong())
+        })
+        ServerWorldEvents.UNLOAD.register(ServerWorldEvents.Unload { _, level ->
+            indices.remove(level.dimension())
+        })
+        ServerLifecycleEvents.SERVER_STOPPED.register(ServerLifecycleEvents.ServerStopped { _ ->
+            indices.clear()
+        })
+    }
+
+    /**
+     * Check if a position is inside any village structure piece bounding box.
+     */
+    fun isInsideVillagePiece(level: ServerLevel, pos: BlockPos): Boolean {
+        val index = indices.getOrPut(level.dimension()) { Long2ObjectOpenHashMap() }
+        val chunkKey = ChunkPos.asLong(pos)
+        var boxes = index.get(chunkKey)
+        if (boxes == null) {
+            boxes = build(level, ChunkPos(chunkKey))
+            index.put(chunkKey, boxes)
+        }
+
+        val x = pos.x
+        val y = pos.y
+        val z = pos.z
+        var i = 0
+        while (i < boxes.size) {
+            if (x >= boxes[i] && y >= boxes[i + 1] && z >= boxes[i + 2] &&
+                x <= boxes[i + 3] && y <= boxes[i + 4] && z <= boxes[i + 5]
+            ) {
+                return true
+            }
+            i += BOX_INTS
+        }
+        return false
+    }
+
+    /**
+     * Drop a chunk's entry so it is rebuilt on next query.
+     */
+    @JvmStatic
+    fun invalidate(level: ServerLevel, chunkPos: ChunkPos) {
+        indices[level.dimension()]?.remove(chunkPos.toLong())
+    }
+
+    private fun build(level: ServerLevel, chunkPos: ChunkPos): IntArray {
+        val structures = level.registryAccess().lookupOrThrow(Registries.STRUCTURE)
+        val starts = level.structureManager().startsForStructure(chunkPos) { structure ->
+            structures.wrapAsHolder(structure).`is`(StructureTags.VILLAGE)
+        }
+        if (starts.isEmpty()) {
+            return NO_PIECES
+        }
+
+        val minX = chunkPos.minBlockX
+        val minZ = chunkPos.minBlockZ
+        val maxX = chunkPos.maxBlockX
+        val maxZ = chunkPos.maxBlockZ
+        val boxes = IntArrayList()
+        for (start in starts) {
+            for (piece in start.pieces) {
+                val box = piece.boundingBox
+                // Keep only pieces overlapping this chunk column
+                if (box.maxX() < minX || box.minX() > maxX || box.maxZ() < minZ || box.minZ() > maxZ) {
+                    continue
+                }
+                boxes.add(box.minX())
+                boxes.add(box.minY())
+                boxes.add(box.minZ())
+                boxes.add(box.maxX())
+                boxes.add(box.maxY())
+                boxes.add(box.maxZ())
+            }
+        }
+        return if (boxes.isEmpty()) NO_PIECES else boxes.toIntArray()
+    }
+}
@@ -4,7 +4,6 @@ import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents
 import net.minecraft.core.BlockPos
 import net.minecraft.server.level.ServerLevel
 import net.minecraft.tags.BlockTags
-import net.minecraft.tags.StructureTags
 
 /**
  * Handles block break protection inside village structures.
@@ -14,8 +13,8 @@ import net.minecraft.tags.StructureTags
  * - BREAK-06: Player CAN break ores inside village structures (exception)
  * - BREAK-07: Player CAN break allowlist blocks inside village structures (exception)
  *
- * Uses position-based structure detection via getStructureWithPieceAt() which
- * checks if a block position falls within any village structure piece's bounding box.
+ * Uses position-based structure detection via VillagePieceIndex, which checks if a
+ * block position falls within any village structure piece's bounding box.
  * This allows underground traversal below villages while protecting actual structures.
  *
  * This handler should be registered BEFORE MiningFatigue so that blocked breaks
@@ -29,7 +28,6 @@ object VillageProtection {
      * Registers the village block break protection handler.
      */
     fun register() {
-        logger.info("VillageProtection handler registered!")
         PlayerBlockBreakEvents.BEFORE.register { level, player, pos, state, blockEntity ->
             // Skip client-side processing
             if (level.isClientSide) {
@@ -38,31 +36,25 @@ object VillageProtection {
 
             val serverLevel = level as ServerLevel
 
-            logger.info("VillageProtection checking block break at $pos")
-
             // Only apply protection inside village structures
-            val isVillage = isInsideVillageStructure(serverLevel, pos)
-            logger.info("  isInsideVillageStructure result: $isVillage")
-
-            if (!isVillage) {
-                logger.info("  -> ALLOWING (not inside village structure)")
+            if (!isInsideVillageStructure(serverLevel, pos)) {
                 return@register true
             }
 
             // BREAK-06: Allow breaking ores in village structures
             if (isOre(state)) {
-                logger.info("  -> ALLOWING (is ore)")
+                logger.debug("Allowing ore break inside village structure at {}", pos)
                 return@register true
             }
 
             // BREAK-07: Allow breaking allowlist blocks in village structures
             if (WorldRestrictions.ALLOWED_BLOCKS.contains(state.block)) {
-                logger.info("  -> ALLOWING (is allowlist block)")
+                logger.debug("Allowing allowlist block break inside village structure at {}", pos)
                 return@register true
             }
 
             // BREAK-05: Block breaking inside village structures
-            logger.info("  -> BLOCKING break inside village structure!")
+            logger.debug("Blocking break inside village structure at {}", pos)
             false
         }
     }
@@ -70,18 +62,16 @@ object VillageProtection {
     /**
      * Checks if a position is inside a village structure piece bounding box.
      *
-     * Uses StructureManager.getStructureWithPieceAt() which internally checks
-     * if the position falls within any structure piece's BoundingBox for
-     * villages in the chunk.
+     * Same answer as StructureManager.getStructureWithPieceAt(pos, VILLAGE), served
+     * from the per-chunk piece box index instead of resolving structure starts
+     * on every break.
      *
      * @param level The server level to check
      * @param pos The block position to check
      * @return true if the position is inside any village structure piece
      */
     private fun isInsideVillageStructure(level: ServerLevel, pos: BlockPos): Boolean {
-        val structureManager = level.structureManager()
-        val structureAt = structureManager.getStructureWithPieceAt(pos, StructureTags.VILLAGE)
-        return structureAt.isValid
+        return VillagePieceIndex.isInsideVillagePiece(level, pos)
     }
 
     /**
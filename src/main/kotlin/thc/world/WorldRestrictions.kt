@@ -5,6 +5,7 @@ import net.minecraft.core.BlockPos
 import net.minecraft.server.level.ServerLevel
 import net.minecraft.world.InteractionResult
 import net.minecraft.world.item.BlockItem
+import net.minecraft.world.level.block.Block
 import net.minecraft.world.level.block.Blocks
 import thc.claim.ClaimManager
 
@@ -72,6 +73,12 @@ object WorldRestrictions {
         Blocks.LADDER
     )
 
+    /**
+     * Whether a block is an allowlist block subject to the adjacency rule.
+     * RestrictedBlockIndex tracks these.
+     */
+    fun isAdjacencyRestricted(block: Block): Boolean = block in ALLOWED_BLOCKS && block !in ADJACENCY_EXEMPT_BLOCKS
+
     /**
      * Register the block placement restriction handler.
      * Should be called during mod initialization.
@@ -136,34 +143,14 @@ object WorldRestrictions {
      *
      * "26 coordinates" means the 26 neighboring blocks (3x3x3 cube minus center):
      * face neighbors (6) + edge neighbors (12) + corner neighbors (8) = 26 total.
+     * Answered with bit tests against RestrictedBlockIndex.
      *
      * @param level The server level
      * @param placementPos The position where the block would be placed
      * @return true if placement is allowed, false if blocked by adjacency rule
      */
     private fun checkAdjacency(level: ServerLevel, placementPos: BlockPos): Boolean {
-        // Check all 26 neighboring blocks (3x3x3 cube minus center)
-        for (dx in -1..1) {
-            for (dy in -1..1) {
-                for (dz in -1..1) {
-                    // Skip the placement position itself (center of the 3x3x3 cube)
-                    if (dx == 0 && dy == 0 && dz == 0) {
-                        continue
-                    }
-
-                    // Check the block at this offset
-                    val checkPos = placementPos.offset(dx, dy, dz)
-                    val blockState = level.getBlockState(checkPos)
-                    val existingBlock = blockState.block
-
-                    // If there's a restricted allowlist block nearby, block the placement
-                    if (existingBlock in ALLOWED_BLOCKS && existingBlock !in ADJACENCY_EXEMPT_BLOCKS) {
-                        return false
-                    }
-                }
-            }
-        }
-
-        return true
+        // Any restricted allowlist block in the 3x3x3 cube minus center blocks the placement
+        return !RestrictedBlockIndex.anyWithin(level, placementPos, 1)
     }
 }